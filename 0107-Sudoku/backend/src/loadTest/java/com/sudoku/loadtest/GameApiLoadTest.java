@@ -0,0 +1,64 @@
+package com.sudoku.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class GameApiLoadTest {
+
+  private static final int SIGNUP_BATCH = 16;
+
+  private GameApiLoadTest() {}
+
+  public static void main(String[] args) {
+    String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+    int sessions = Integer.getInteger("loadtest.sessions", 5000);
+    int hintsPerGame = Integer.getInteger("loadtest.hints", 1);
+    int players = Integer.getInteger("loadtest.players", 200);
+    double registeredRatio = Double.parseDouble(System.getProperty("loadtest.registeredRatio", "1.0"));
+    double giveUpRatio = Double.parseDouble(System.getProperty("loadtest.giveUpRatio", "0.2"));
+    String difficulty = System.getProperty("loadtest.difficulty", "EASY");
+    String label = System.getProperty("loadtest.label", baseUrl);
+
+    GameFlowDriver driver = new GameFlowDriver(baseUrl);
+    List<String> authTokens = registeredRatio > 0 ? signUpPlayers(driver, players) : List.of();
+    AtomicInteger nextPlayer = new AtomicInteger();
+    FlowRunner runner = () -> {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      String authToken = random.nextDouble() < registeredRatio
+          ? authTokens.get(Math.floorMod(nextPlayer.getAndIncrement(), authTokens.size()))
+          : null;
+      return driver.playGame(difficulty, authToken, hintsPerGame, random.nextDouble() < giveUpRatio);
+    };
+
+    driver.run(Math.min(100, sessions), runner::play);
+    driver.reset();
+
+    long elapsed = driver.run(sessions, runner::play);
+
+    driver.report(String.format("%s, %.0f%% registered", label, registeredRatio * 100), sessions, elapsed);
+  }
+
+  private static List<String> signUpPlayers(GameFlowDriver driver, int players) {
+    String run = Long.toString(System.currentTimeMillis(), 36);
+    List<String> authTokens = new ArrayList<>();
+    for (int first = 0; first < players; first += SIGNUP_BATCH) {
+      List<CompletableFuture<String>> signups = new ArrayList<>();
+      for (int i = first; i < Math.min(players, first + SIGNUP_BATCH); i++) {
+        signups.add(driver.signUp("player" + i + "-" + run + "@loadtest.local", "p" + i + "-" + run));
+      }
+      for (CompletableFuture<String> signup : signups) {
+        authTokens.add(signup.join());
+      }
+    }
+    return authTokens;
+  }
+
+  @FunctionalInterface
+  private interface FlowRunner {
+
+    CompletableFuture<Void> play();
+  }
+}
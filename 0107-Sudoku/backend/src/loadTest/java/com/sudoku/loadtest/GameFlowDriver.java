@@ -0,0 +1,192 @@
+package com.sudoku.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudoku.solver.SudokuSolver;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class GameFlowDriver {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final List<String> OPERATIONS = List.of("signup", "start", "hint", "complete", "give_up");
+
+  private final HttpClient httpClient;
+  private final String baseUrl;
+  private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+  private final LongAdder completedSessions = new LongAdder();
+  private final LongAdder failedSessions = new LongAdder();
+
+  public GameFlowDriver(String baseUrl) {
+    this.httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+    this.baseUrl = baseUrl;
+    reset();
+  }
+
+  public void reset() {
+    for (String operation : OPERATIONS) {
+      recorders.put(operation, new LatencyRecorder(operation));
+    }
+    completedSessions.reset();
+    failedSessions.reset();
+  }
+
+  public long run(int sessions, Supplier<CompletableFuture<Void>> flow) {
+    long start = System.nanoTime();
+    CompletableFuture<?>[] flows = new CompletableFuture<?>[sessions];
+    for (int i = 0; i < sessions; i++) {
+      flows[i] = flow.get()
+          .whenComplete((ignored, error) -> {
+            if (error == null) {
+              completedSessions.increment();
+            } else {
+              failedSessions.increment();
+            }
+          });
+    }
+    CompletableFuture.allOf(flows).exceptionally(error -> null).join();
+    return System.nanoTime() - start;
+  }
+
+  public CompletableFuture<String> signUp(String email, String nickname) {
+    return post("signup", "/api/auth/signup", null, null,
+        Map.of("email", email, "password", "password123", "nickname", nickname))
+        .thenApply(response -> response.get("token").asText());
+  }
+
+  public CompletableFuture<Void> playGame(String difficulty, String authToken, int hintsPerGame, boolean giveUp) {
+    HttpRequest.Builder startRequest = HttpRequest.newBuilder(uri("/api/games/start?difficulty=" + difficulty)).GET();
+    if (authToken != null) {
+      startRequest.header("Authorization", "Bearer " + authToken);
+    }
+    return send("start", startRequest)
+        .thenCompose(game -> {
+          long gameId = game.get("gameId").asLong();
+          String gameToken = game.path("gameToken").asText(null);
+          String puzzle = game.get("puzzle").asText();
+          int hints = Math.min(hintsPerGame, game.get("hintLimit").asInt());
+
+          CompletableFuture<JsonNode> flow = CompletableFuture.completedFuture(game);
+          for (int i = 0; i < hints; i++) {
+            flow = flow.thenCompose(ignored -> post("hint", "/api/games/" + gameId + "/hint", authToken, gameToken,
+                Map.of("currentBoard", puzzle)));
+          }
+          if (giveUp) {
+            return flow.thenCompose(ignored -> post("give_up", "/api/games/" + gameId + "/give-up", authToken,
+                gameToken, null));
+          }
+          String solution = solve(puzzle);
+          return flow.thenCompose(ignored -> post("complete", "/api/games/" + gameId + "/complete", authToken,
+              gameToken, Map.of("finalBoard", solution, "completionTime", 60)));
+        })
+        .thenApply(ignored -> null);
+  }
+
+  public void report(String label, int sessions, long elapsedNanos) {
+    double seconds = elapsedNanos / 1_000_000_000.0;
+    long requests = 0;
+    for (LatencyRecorder recorder : recorders.values()) {
+      requests += recorder.getCount();
+    }
+
+    System.out.printf("%n== %s ==%n", label);
+    System.out.printf("sessions=%d completed=%d failed=%d elapsed=%.2fs%n",
+        sessions, completedSessions.sum(), failedSessions.sum(), seconds);
+    System.out.printf("throughput: %.1f req/s, %.1f sessions/s%n",
+        requests / seconds, completedSessions.sum() / seconds);
+    System.out.printf("%-10s %8s %7s %9s %9s %9s %9s%n", "operation", "count", "errors", "p50(ms)", "p95(ms)",
+        "p99(ms)", "max(ms)");
+    for (LatencyRecorder recorder : recorders.values()) {
+      LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+      if (snapshot.getCount() == 0) {
+        continue;
+      }
+      System.out.printf("%-10s %8d %7d %9.2f %9.2f %9.2f %9.2f%n",
+          recorder.getName(),
+          snapshot.getCount(),
+          recorder.getErrors(),
+          snapshot.percentileMillis(50),
+          snapshot.percentileMillis(95),
+          snapshot.percentileMillis(99),
+          snapshot.maxMillis());
+    }
+
+    StringBuilder summary = new StringBuilder(String.format("summary %s sessions=%d throughput=%.1freq/s p99(ms)",
+        label, sessions, requests / seconds));
+    for (LatencyRecorder recorder : recorders.values()) {
+      LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+      if (snapshot.getCount() > 0) {
+        summary.append(String.format(" %s=%.2f", recorder.getName(), snapshot.percentileMillis(99)));
+      }
+    }
+    System.out.println(summary);
+  }
+
+  private CompletableFuture<JsonNode> post(
+      String operation, String path, String authToken, String gameToken, Object body) {
+    HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+        .header("Content-Type", "application/json");
+    if (authToken != null) {
+      request.header("Authorization", "Bearer " + authToken);
+    }
+    if (gameToken != null) {
+      request.header("X-Game-Token", gameToken);
+    }
+    try {
+      request.POST(body == null
+          ? HttpRequest.BodyPublishers.noBody()
+          : HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body)));
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return send(operation, request);
+  }
+
+  private CompletableFuture<JsonNode> send(String operation, HttpRequest.Builder request) {
+    LatencyRecorder recorder = recorders.get(operation);
+    long start = System.nanoTime();
+    return httpClient.sendAsync(request.timeout(Duration.ofSeconds(60)).build(),
+            HttpResponse.BodyHandlers.ofByteArray())
+        .thenApply(response -> {
+          recorder.record(System.nanoTime() - start);
+          if (response.statusCode() / 100 != 2) {
+            recorder.recordError();
+            throw new IllegalStateException(operation + " returned HTTP " + response.statusCode());
+          }
+          try {
+            return OBJECT_MAPPER.readTree(response.body());
+          } catch (Exception e) {
+            recorder.recordError();
+            throw new IllegalStateException(operation + " returned an unreadable body", e);
+          }
+        });
+  }
+
+  private URI uri(String path) {
+    return URI.create(baseUrl + path);
+  }
+
+  private static String solve(String puzzle) {
+    int[] board = new int[puzzle.length()];
+    for (int i = 0; i < board.length; i++) {
+      board[i] = puzzle.charAt(i) - '0';
+    }
+    SudokuSolver.solveBacktracking(board);
+    StringBuilder solution = new StringBuilder(board.length);
+    for (int cell : board) {
+      solution.append(cell);
+    }
+    return solution.toString();
+  }
+}
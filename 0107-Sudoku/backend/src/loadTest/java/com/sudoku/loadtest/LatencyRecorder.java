@@ -0,0 +1,93 @@
+package com.sudoku.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class LatencyRecorder {
+
+  private final String name;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LongAdder errors = new LongAdder();
+  private long[] samples = new long[1024];
+  private int count;
+
+  public LatencyRecorder(String name) {
+    this.name = name;
+  }
+
+  public void record(long nanos) {
+    lock.lock();
+    try {
+      if (count == samples.length) {
+        samples = Arrays.copyOf(samples, count * 2);
+      }
+      samples[count++] = nanos;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void recordError() {
+    errors.increment();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getCount() {
+    lock.lock();
+    try {
+      return count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  public Snapshot snapshot() {
+    long[] sorted;
+    lock.lock();
+    try {
+      sorted = Arrays.copyOf(samples, count);
+    } finally {
+      lock.unlock();
+    }
+    Arrays.sort(sorted);
+    return new Snapshot(sorted);
+  }
+
+  public static final class Snapshot {
+
+    private final long[] sorted;
+
+    private Snapshot(long[] sorted) {
+      this.sorted = sorted;
+    }
+
+    public int getCount() {
+      return sorted.length;
+    }
+
+    public double percentileMillis(double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+      return toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+    }
+
+    public double maxMillis() {
+      return sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]);
+    }
+
+    private static double toMillis(long nanos) {
+      return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+  }
+}
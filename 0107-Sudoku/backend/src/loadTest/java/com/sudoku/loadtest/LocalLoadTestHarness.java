@@ -0,0 +1,149 @@
+package com.sudoku.loadtest;
+
+import com.sudoku.SudokuBackendApplication;
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import com.sudoku.repository.GameRecordBatchWriter;
+import com.sudoku.repository.PuzzleRepository;
+import com.sudoku.solver.SudokuSolver;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public final class LocalLoadTestHarness {
+
+  private static final int CALIBRATION_RUNS = 20;
+
+  private LocalLoadTestHarness() {}
+
+  public static void main(String[] args) {
+    int sessions = Integer.getInteger("loadtest.sessions", 1000);
+    int hintsPerGame = Integer.getInteger("loadtest.hints", 1);
+    int players = Integer.getInteger("loadtest.players", 200);
+    int puzzlesPerDifficulty = Integer.getInteger("loadtest.puzzles", 200);
+    String difficulty = System.getProperty("loadtest.difficulty", "EASY");
+
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(SudokuBackendApplication.class)
+        .profiles("loadtest")
+        .run(args);
+    try {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      seedPuzzles(context.getBean(PuzzleRepository.class), puzzlesPerDifficulty);
+
+      GameFlowDriver driver = new GameFlowDriver("http://localhost:" + port);
+      List<String> authTokens = signUpPlayers(driver, players);
+      Statistics statistics = context.getBean(EntityManagerFactory.class)
+          .unwrap(SessionFactory.class)
+          .getStatistics();
+      GameRecordBatchWriter gameRecordBatchWriter = context.getBean(GameRecordBatchWriter.class);
+      MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+      AtomicInteger nextPlayer = new AtomicInteger();
+
+      for (Flow flow : Flow.values()) {
+        FlowRunner runner = () -> driver.playGame(
+            difficulty,
+            flow.registered ? authTokens.get(Math.floorMod(nextPlayer.getAndIncrement(), players)) : null,
+            hintsPerGame,
+            flow.giveUp);
+
+        driver.run(Math.min(100, sessions), runner::play);
+        gameRecordBatchWriter.flush();
+
+        statistics.clear();
+        double requestQueriesBefore = totalRequestQueries(meterRegistry);
+        for (int i = 0; i < CALIBRATION_RUNS; i++) {
+          runner.play().join();
+        }
+        double requestQueriesPerFlow =
+            (totalRequestQueries(meterRegistry) - requestQueriesBefore) / CALIBRATION_RUNS;
+        gameRecordBatchWriter.flush();
+        double statementsPerFlow = statistics.getPrepareStatementCount() / (double) CALIBRATION_RUNS;
+
+        driver.reset();
+        long elapsed = driver.run(sessions, runner::play);
+        gameRecordBatchWriter.flush();
+        driver.report(String.format("%s, %.1f request queries/flow, %.1f JPA statements/flow",
+            flow.label, requestQueriesPerFlow, statementsPerFlow), sessions, elapsed);
+      }
+    } finally {
+      context.close();
+    }
+  }
+
+  private static void seedPuzzles(PuzzleRepository puzzleRepository, int puzzlesPerDifficulty) {
+    List<Puzzle> puzzles = new ArrayList<>();
+    for (Difficulty difficulty : Difficulty.values()) {
+      for (int i = 0; i < puzzlesPerDifficulty; i++) {
+        int[] solution = SudokuSolver.generateCompleteBoard();
+        int[] initialBoard = SudokuSolver.removeCells(solution, 40);
+        puzzles.add(Puzzle.builder()
+            .difficulty(difficulty)
+            .initialBoard(toBoardString(initialBoard))
+            .solution(toBoardString(solution))
+            .isActive(true)
+            .build());
+      }
+    }
+    puzzleRepository.saveAll(puzzles);
+  }
+
+  private static List<String> signUpPlayers(GameFlowDriver driver, int players) {
+    List<CompletableFuture<String>> signups = new ArrayList<>();
+    for (int i = 0; i < players; i++) {
+      signups.add(driver.signUp("player" + i + "@loadtest.local", "player" + i));
+    }
+    List<String> authTokens = new ArrayList<>();
+    for (CompletableFuture<String> signup : signups) {
+      authTokens.add(signup.join());
+    }
+    return authTokens;
+  }
+
+  private static double totalRequestQueries(MeterRegistry meterRegistry) {
+    double total = 0;
+    for (DistributionSummary summary : meterRegistry.find("sudoku.db.queries.per.request").summaries()) {
+      total += summary.totalAmount();
+    }
+    return total;
+  }
+
+  private static String toBoardString(int[] board) {
+    StringBuilder builder = new StringBuilder(board.length);
+    for (int cell : board) {
+      builder.append(cell);
+    }
+    return builder.toString();
+  }
+
+  @FunctionalInterface
+  private interface FlowRunner {
+
+    CompletableFuture<Void> play();
+  }
+
+  private enum Flow {
+    ANONYMOUS_COMPLETE("anonymous start -> hints -> complete", false, false),
+    ANONYMOUS_GIVE_UP("anonymous start -> hints -> give-up", false, true),
+    REGISTERED_COMPLETE("registered start -> hints -> complete", true, false),
+    REGISTERED_GIVE_UP("registered start -> hints -> give-up", true, true);
+
+    private final String label;
+    private final boolean registered;
+    private final boolean giveUp;
+
+    Flow(String label, boolean registered, boolean giveUp) {
+      this.label = label;
+      this.registered = registered;
+      this.giveUp = giveUp;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.sudoku.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public final class GridBenchmark {
+
+  private GridBenchmark() {}
+
+  public static void main(String[] args) {
+    int warmup = Integer.getInteger("gridbench.warmup", 3);
+    int iterations = Integer.getInteger("gridbench.iterations", 10);
+    long seed = Long.getLong("gridbench.seed", 42L);
+    String difficulty = System.getProperty("gridbench.difficulty", "MEDIUM");
+    int[] boxSizes = Arrays.stream(System.getProperty("gridbench.boxSizes", "3,4,5").split(","))
+        .mapToInt(size -> Integer.parseInt(size.trim()))
+        .toArray();
+
+    int[] removePercent = GridGenerator.removePercentRange(difficulty);
+    if (removePercent == null) {
+      throw new IllegalArgumentException("Unknown difficulty: " + difficulty);
+    }
+    List<String> missedTargets = new ArrayList<>();
+
+    System.out.printf("%s puzzles (at least %d%% of cells removed), %d warmup and %d measured iterations per size%n",
+        difficulty, removePercent[0], warmup, iterations);
+    System.out.printf("%-6s %12s %12s %12s %12s %10s %10s %12s %12s%n", "grid", "fill p50us", "gen p50ms",
+        "gen maxms", "solve p50us", "max givens", "target", "solve nodes", "unique");
+
+    for (int boxSize : boxSizes) {
+      GridGeometry geometry = GridGeometry.of(boxSize);
+      try {
+        runGrid(geometry, new GridGenerator(geometry, new Random(seed)), difficulty, warmup, iterations,
+            maxGivens(geometry.getCells(), removePercent[0]));
+      } catch (IllegalStateException e) {
+        System.out.printf("%-6s %s%n", geometry, e.getMessage());
+        missedTargets.add(geometry.toString());
+      }
+    }
+
+    System.out.printf("%n%-10s %12s %12s %12s %10s %10s %12s%n", "9x9 variant", "gen p50ms", "solve p50us",
+        "unique p50us", "max givens", "target", "solve nodes");
+    for (Map.Entry<String, ConstraintGraph> variant : variants(new Random(seed)).entrySet()) {
+      ConstraintGraph graph = variant.getValue();
+      try {
+        runVariant(variant.getKey(), graph, new GridGenerator(graph, new Random(seed)), difficulty, warmup,
+            iterations, maxGivens(graph.getCells(), removePercent[0]));
+      } catch (IllegalStateException e) {
+        System.out.printf("%-10s %s%n", variant.getKey(), e.getMessage());
+        missedTargets.add(variant.getKey());
+      }
+    }
+
+    if (!missedTargets.isEmpty()) {
+      throw new IllegalStateException(difficulty + " givens target missed for " + String.join(", ", missedTargets));
+    }
+  }
+
+  private static void runGrid(
+      GridGeometry geometry, GridGenerator generator, String difficulty, int warmup, int iterations, int target) {
+    for (int i = 0; i < warmup; i++) {
+      int[] puzzle = generator.generatePuzzle(difficulty);
+      GridSolver.solve(puzzle, geometry);
+    }
+
+    long[] fillNanos = new long[iterations];
+    long[] generateNanos = new long[iterations];
+    long[] solveNanos = new long[iterations];
+    long[] givens = new long[iterations];
+    long solveNodes = 0;
+    int unique = 0;
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      int[] complete = generator.generateCompleteBoard();
+      fillNanos[i] = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      int[] puzzle = generator.generatePuzzle(difficulty);
+      generateNanos[i] = System.nanoTime() - start;
+
+      SearchResult solve = GridSolver.solve(puzzle.clone(), geometry);
+      if (!solve.isSolved() || complete.length != puzzle.length) {
+        throw new IllegalStateException(geometry + " puzzle " + (i + 1) + " has no solution");
+      }
+      solveNanos[i] = solve.getElapsedNanos();
+      solveNodes += solve.getNodes();
+      givens[i] = Arrays.stream(puzzle).filter(cell -> cell != 0).count();
+      if (GridSolver.hasUniqueSolution(puzzle, geometry, SearchLimits.UNLIMITED)) {
+        unique++;
+      }
+    }
+
+    System.out.printf("%-6s %12d %12.1f %12.1f %12d %10d %10s %12d %9d/%d%n", geometry,
+        median(fillNanos) / 1_000, median(generateNanos) / 1e6, max(generateNanos) / 1e6,
+        median(solveNanos) / 1_000, max(givens), "<= " + target, solveNodes / iterations, unique, iterations);
+  }
+
+  private static void runVariant(String name, ConstraintGraph graph, GridGenerator generator, String difficulty,
+      int warmup, int iterations, int target) {
+    for (int i = 0; i < warmup; i++) {
+      GridSolver.solve(generator.generatePuzzle(difficulty), graph);
+    }
+
+    long[] generateNanos = new long[iterations];
+    long[] solveNanos = new long[iterations];
+    long[] uniqueNanos = new long[iterations];
+    long[] givens = new long[iterations];
+    long solveNodes = 0;
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      int[] puzzle = generator.generatePuzzle(difficulty);
+      generateNanos[i] = System.nanoTime() - start;
+
+      SearchResult solve = GridSolver.solve(puzzle.clone(), graph);
+      SearchResult unique = GridSolver.countSolutions(puzzle, graph, 2, SearchLimits.UNLIMITED);
+      if (!solve.isSolved() || !unique.isUnique()) {
+        throw new IllegalStateException(name + " puzzle " + (i + 1) + " is not uniquely solvable");
+      }
+      solveNanos[i] = solve.getElapsedNanos();
+      uniqueNanos[i] = unique.getElapsedNanos();
+      solveNodes += solve.getNodes();
+      givens[i] = Arrays.stream(puzzle).filter(cell -> cell != 0).count();
+    }
+
+    System.out.printf("%-10s %12.1f %12d %12d %10d %10s %12d%n", name,
+        median(generateNanos) / 1e6, median(solveNanos) / 1_000, median(uniqueNanos) / 1_000, max(givens),
+        "<= " + target, solveNodes / iterations);
+  }
+
+  private static int maxGivens(int cells, int minRemovePercent) {
+    return cells - cells * minRemovePercent / 100;
+  }
+
+  private static Map<String, ConstraintGraph> variants(Random random) {
+    GridGeometry nine = GridGeometry.of(3);
+    int[] regions = new int[nine.getCells()];
+    for (int row = 0; row < 9; row++) {
+      for (int col = 0; col < 9; col++) {
+        regions[row * 9 + col] = (row / 3) * 3 + ((col + row) % 9) / 3;
+      }
+    }
+
+    int[] solution = new GridGenerator(nine, random).generateCompleteBoard();
+    List<ConstraintGraph.Cage> cages = new ArrayList<>();
+    for (int index = 0; index < solution.length; index += 3) {
+      cages.add(new ConstraintGraph.Cage(solution[index] + solution[index + 1] + solution[index + 2],
+          index, index + 1, index + 2));
+    }
+
+    Map<String, ConstraintGraph> variants = new LinkedHashMap<>();
+    variants.put("classic", nine.getGraph());
+    variants.put("diagonal", ConstraintGraph.diagonal(nine));
+    variants.put("jigsaw", ConstraintGraph.jigsaw(9, regions));
+    variants.put("killer", ConstraintGraph.killer(nine, cages));
+    return variants;
+  }
+
+  private static long median(long[] samples) {
+    long[] sorted = samples.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+
+  private static long max(long[] samples) {
+    return Arrays.stream(samples).max().orElse(0);
+  }
+}
@@ -0,0 +1,110 @@
+package com.sudoku.solver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class SolverBenchmark {
+
+  private static final String DEFAULT_PUZZLES = "/hard-puzzles.txt";
+
+  private SolverBenchmark() {}
+
+  public static void main(String[] args) throws IOException {
+    int warmup = Integer.getInteger("solverbench.warmup", 5);
+    int iterations = Integer.getInteger("solverbench.iterations", 20);
+    String file = System.getProperty("solverbench.file");
+    List<int[]> puzzles = file == null ? readResource(DEFAULT_PUZZLES) : read(Files.newInputStream(Path.of(file)));
+
+    System.out.printf("%d puzzles, %d warmup and %d measured iterations per engine%n",
+        puzzles.size(), warmup, iterations);
+    System.out.printf("%-12s %6s %12s %12s %12s %12s %12s %10s%n", "engine", "puzzle",
+        "solve nodes", "solve p50us", "unique nodes", "backtracks", "unique p50us", "max depth");
+
+    for (SolverEngine engine : SolverEngine.values()) {
+      long totalSolveNodes = 0;
+      long totalUniqueNodes = 0;
+      long totalBacktracks = 0;
+      long totalSolveNanos = 0;
+      long totalUniqueNanos = 0;
+
+      for (int p = 0; p < puzzles.size(); p++) {
+        int[] puzzle = puzzles.get(p);
+        for (int i = 0; i < warmup; i++) {
+          SudokuSolver.solve(puzzle.clone(), engine, SearchLimits.UNLIMITED);
+          SudokuSolver.countSolutions(puzzle.clone(), 2, engine, SearchLimits.UNLIMITED);
+        }
+
+        SearchResult solve = null;
+        SearchResult unique = null;
+        long[] solveNanos = new long[iterations];
+        long[] uniqueNanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+          solve = SudokuSolver.solve(puzzle.clone(), engine, SearchLimits.UNLIMITED);
+          unique = SudokuSolver.countSolutions(puzzle.clone(), 2, engine, SearchLimits.UNLIMITED);
+          solveNanos[i] = solve.getElapsedNanos();
+          uniqueNanos[i] = unique.getElapsedNanos();
+
+          if (!solve.isSolved() || !unique.isUnique()) {
+            throw new IllegalStateException("Puzzle " + (p + 1) + " is not uniquely solvable with " + engine);
+          }
+        }
+
+        long solveMedian = median(solveNanos);
+        long uniqueMedian = median(uniqueNanos);
+        totalSolveNodes += solve.getNodes();
+        totalUniqueNodes += unique.getNodes();
+        totalBacktracks += unique.getBacktracks();
+        totalSolveNanos += solveMedian;
+        totalUniqueNanos += uniqueMedian;
+        System.out.printf("%-12s %6d %12d %12d %12d %12d %12d %10d%n", engine, p + 1,
+            solve.getNodes(), solveMedian / 1_000, unique.getNodes(), unique.getBacktracks(),
+            uniqueMedian / 1_000, unique.getMaxDepth());
+      }
+
+      System.out.printf("%-12s %6s %12d %12d %12d %12d %12d%n%n", engine, "total",
+          totalSolveNodes, totalSolveNanos / 1_000, totalUniqueNodes, totalBacktracks, totalUniqueNanos / 1_000);
+    }
+  }
+
+  private static long median(long[] samples) {
+    long[] sorted = samples.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+
+  private static List<int[]> readResource(String name) throws IOException {
+    InputStream in = SolverBenchmark.class.getResourceAsStream(name);
+    if (in == null) {
+      throw new IOException("Missing benchmark resource " + name);
+    }
+    return read(in);
+  }
+
+  private static List<int[]> read(InputStream in) throws IOException {
+    List<int[]> puzzles = new ArrayList<>();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (line.length() != 81) {
+          continue;
+        }
+        int[] board = new int[81];
+        for (int i = 0; i < board.length; i++) {
+          char c = line.charAt(i);
+          board[i] = c >= '1' && c <= '9' ? c - '0' : 0;
+        }
+        puzzles.add(board);
+      }
+    }
+    return puzzles;
+  }
+}
@@ -0,0 +1,50 @@
+package com.sudoku.config;
+
+import com.sudoku.session.AnonymousGameStore;
+import com.sudoku.session.GameSessionCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+
+  @Bean
+  public MeterBinder gameSessionCacheMetrics(GameSessionCache gameSessionCache) {
+    return registry -> {
+      Gauge.builder("sudoku.game.session.cache.size", gameSessionCache, GameSessionCache::size)
+          .register(registry);
+      FunctionCounter.builder("sudoku.game.session.cache.requests", gameSessionCache, GameSessionCache::getHits)
+          .tag("result", "hit")
+          .register(registry);
+      FunctionCounter.builder("sudoku.game.session.cache.requests", gameSessionCache, GameSessionCache::getMisses)
+          .tag("result", "miss")
+          .register(registry);
+    };
+  }
+
+  @Bean
+  public MeterBinder anonymousGameStoreMetrics(AnonymousGameStore anonymousGameStore) {
+    return registry -> {
+      Gauge.builder("sudoku.game.anonymous.active", anonymousGameStore, AnonymousGameStore::size)
+          .register(registry);
+      FunctionCounter.builder("sudoku.game.anonymous.evictions", anonymousGameStore,
+              AnonymousGameStore::getExpiredEvictions)
+          .tag("cause", "expired")
+          .register(registry);
+      FunctionCounter.builder("sudoku.game.anonymous.evictions", anonymousGameStore,
+              AnonymousGameStore::getCapacityEvictions)
+          .tag("cause", "capacity")
+          .register(registry);
+    };
+  }
+}
@@ -0,0 +1,35 @@
+package com.sudoku.config;
+
+import com.sudoku.service.PuzzleImportService;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "puzzle.import.file")
+@RequiredArgsConstructor
+public class PuzzleImportRunner implements ApplicationRunner {
+
+  private final PuzzleImportService puzzleImportService;
+  private final ConfigurableApplicationContext applicationContext;
+
+  @Value("${puzzle.import.file}")
+  private String file;
+
+  @Value("${puzzle.import.exit-on-completion:true}")
+  private boolean exitOnCompletion;
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    puzzleImportService.importFile(Path.of(file));
+    if (exitOnCompletion) {
+      System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+  }
+}
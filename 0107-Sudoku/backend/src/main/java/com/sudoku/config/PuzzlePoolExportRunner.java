@@ -0,0 +1,35 @@
+package com.sudoku.config;
+
+import com.sudoku.service.PuzzleExportService;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "puzzle.pool.export-file")
+@RequiredArgsConstructor
+public class PuzzlePoolExportRunner implements ApplicationRunner {
+
+  private final PuzzleExportService puzzleExportService;
+  private final ConfigurableApplicationContext applicationContext;
+
+  @Value("${puzzle.pool.export-file}")
+  private String file;
+
+  @Value("${puzzle.pool.exit-on-completion:true}")
+  private boolean exitOnCompletion;
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    puzzleExportService.writePool(Path.of(file));
+    if (exitOnCompletion) {
+      System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+  }
+}
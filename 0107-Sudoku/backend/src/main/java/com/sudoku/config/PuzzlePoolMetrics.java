@@ -0,0 +1,45 @@
+package com.sudoku.config;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.repository.PuzzleSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PuzzlePoolMetrics implements MeterBinder {
+
+  private final PuzzleSource puzzleSource;
+  private final Map<Difficulty, AtomicLong> activePuzzles = createCounters();
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (Map.Entry<Difficulty, AtomicLong> entry : activePuzzles.entrySet()) {
+      Gauge.builder("sudoku.puzzle.pool.size", entry.getValue(), AtomicLong::get)
+          .tag("difficulty", entry.getKey().name())
+          .register(registry);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${metrics.puzzle-pool.refresh-interval-ms:60000}")
+  public void refresh() {
+    for (Map.Entry<Difficulty, AtomicLong> entry : activePuzzles.entrySet()) {
+      entry.getValue().set(puzzleSource.count(entry.getKey()));
+    }
+  }
+
+  private static Map<Difficulty, AtomicLong> createCounters() {
+    Map<Difficulty, AtomicLong> counters = new EnumMap<>(Difficulty.class);
+    for (Difficulty difficulty : Difficulty.values()) {
+      counters.put(difficulty, new AtomicLong());
+    }
+    return counters;
+  }
+}
@@ -0,0 +1,88 @@
+package com.sudoku.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+  private static final String QUERIES_ATTRIBUTE = QueryCountFilter.class.getName() + ".QUERIES";
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+    AtomicLong queries = (AtomicLong) request.getAttribute(QUERIES_ATTRIBUTE);
+    if (queries == null) {
+      queries = new AtomicLong();
+      request.setAttribute(QUERIES_ATTRIBUTE, queries);
+    }
+    QueryCountHolder.clear();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      queries.addAndGet(currentThreadQueries());
+      if (!request.isAsyncStarted()) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("sudoku.db.queries.per.request")
+            .baseUnit("queries")
+            .tag("method", request.getMethod())
+            .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(queries.get());
+      }
+    }
+  }
+
+  private static long currentThreadQueries() {
+    QueryCount queryCount = QueryCountHolder.get(QueryCountConfig.DATA_SOURCE_NAME);
+    return queryCount != null ? queryCount.getTotal() : 0;
+  }
+
+  public static class AsyncQueryCounter implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(@NonNull NativeWebRequest request, @NonNull Callable<T> task) {
+      QueryCountHolder.clear();
+    }
+
+    @Override
+    public <T> void postProcess(@NonNull NativeWebRequest request, @NonNull Callable<T> task, Object concurrentResult) {
+      Object queries = request.getAttribute(QUERIES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+      if (queries instanceof AtomicLong counter) {
+        counter.addAndGet(currentThreadQueries());
+      }
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.sudoku.config;
+
+import com.sudoku.solver.SearchLimits;
+import com.sudoku.solver.SolverEngine;
+import com.sudoku.solver.SudokuSolver;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SolverConfig {
+
+  private final SolverEngine solverEngine;
+  private final SearchLimits searchLimits;
+
+  public SolverConfig(
+      @Value("${solver.engine:SCANNING}") SolverEngine solverEngine,
+      @Value("${solver.search.max-nodes:0}") long maxNodes,
+      @Value("${solver.search.max-time:0ms}") Duration maxTime) {
+    this.solverEngine = solverEngine;
+    this.searchLimits = SearchLimits.of(maxNodes, maxTime);
+  }
+
+  @PostConstruct
+  void configureSolver() {
+    SudokuSolver.setEngine(solverEngine);
+    SudokuSolver.setDefaultLimits(searchLimits);
+  }
+}
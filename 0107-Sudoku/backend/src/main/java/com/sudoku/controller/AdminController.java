@@ -0,0 +1,47 @@
+package com.sudoku.controller;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.dto.StatisticsResponse;
+import com.sudoku.io.PuzzleExportFormat;
+import com.sudoku.service.GameStatisticsService;
+import com.sudoku.service.PuzzleExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+  private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+  private final GameStatisticsService gameStatisticsService;
+  private final PuzzleExportService puzzleExportService;
+
+  @GetMapping("/statistics")
+  public ResponseEntity<StatisticsResponse> getStatistics() {
+    StatisticsResponse response = gameStatisticsService.getStatistics();
+    return ResponseEntity.ok(response);
+  }
+
+  @GetMapping("/puzzles/export")
+  public ResponseEntity<StreamingResponseBody> exportPuzzles(
+      @RequestParam(defaultValue = "LINES") PuzzleExportFormat format,
+      @RequestParam(required = false) Difficulty difficulty) {
+    String filename = "puzzles" + (difficulty == null ? "" : "-" + difficulty.name().toLowerCase())
+        + "." + format.getExtension() + ".gz";
+    StreamingResponseBody body = out -> puzzleExportService.export(out, format, difficulty);
+    return ResponseEntity.ok()
+        .contentType(GZIP)
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+}
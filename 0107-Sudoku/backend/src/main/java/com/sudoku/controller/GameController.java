@@ -7,7 +7,9 @@ import com.sudoku.dto.GameGiveUpResponse;
 import com.sudoku.dto.GameHintRequest;
 import com.sudoku.dto.GameHintResponse;
 import com.sudoku.dto.GameStartResponse;
+import com.sudoku.service.AnonymousGameService;
 import com.sudoku.service.GameService;
+import com.sudoku.session.AnonymousGameStore;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,7 +27,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class GameController {
 
+  private static final String GAME_TOKEN_HEADER = "X-Game-Token";
+
   private final GameService gameService;
+  private final AnonymousGameService anonymousGameService;
 
   @GetMapping("/start")
   public ResponseEntity<GameStartResponse> startGame(@RequestParam Difficulty difficulty) {
@@ -35,22 +41,32 @@ public class GameController {
   @PostMapping("/{id}/complete")
   public ResponseEntity<GameCompleteResponse> completeGame(
       @PathVariable Long id,
+      @RequestHeader(value = GAME_TOKEN_HEADER, required = false) String gameToken,
       @Valid @RequestBody GameCompleteRequest request) {
-    GameCompleteResponse response = gameService.completeGame(id, request);
+    GameCompleteResponse response = AnonymousGameStore.isAnonymousGameId(id)
+        ? anonymousGameService.completeGame(id, gameToken, request)
+        : gameService.completeGame(id, request);
     return ResponseEntity.ok(response);
   }
 
   @PostMapping("/{id}/give-up")
-  public ResponseEntity<GameGiveUpResponse> giveUpGame(@PathVariable Long id) {
-    GameGiveUpResponse response = gameService.giveUpGame(id);
+  public ResponseEntity<GameGiveUpResponse> giveUpGame(
+      @PathVariable Long id,
+      @RequestHeader(value = GAME_TOKEN_HEADER, required = false) String gameToken) {
+    GameGiveUpResponse response = AnonymousGameStore.isAnonymousGameId(id)
+        ? anonymousGameService.giveUpGame(id, gameToken)
+        : gameService.giveUpGame(id);
     return ResponseEntity.ok(response);
   }
 
   @PostMapping("/{id}/hint")
   public ResponseEntity<GameHintResponse> getHint(
       @PathVariable Long id,
+      @RequestHeader(value = GAME_TOKEN_HEADER, required = false) String gameToken,
       @Valid @RequestBody GameHintRequest request) {
-    GameHintResponse response = gameService.getHint(id, request);
+    GameHintResponse response = AnonymousGameStore.isAnonymousGameId(id)
+        ? anonymousGameService.getHint(id, gameToken, request)
+        : gameService.getHint(id, request);
     return ResponseEntity.ok(response);
   }
 }
@@ -0,0 +1,57 @@
+package com.sudoku.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+@Entity
+@Table(name = "difficulty_statistics")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DifficultyStatistics {
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(length = 20)
+  private Difficulty difficulty;
+
+  @Column(name = "games_started", nullable = false)
+  @Builder.Default
+  private Long gamesStarted = 0L;
+
+  @Column(name = "games_completed", nullable = false)
+  @Builder.Default
+  private Long gamesCompleted = 0L;
+
+  @Column(name = "games_given_up", nullable = false)
+  @Builder.Default
+  private Long gamesGivenUp = 0L;
+
+  @Column(name = "hints_used", nullable = false)
+  @Builder.Default
+  private Long hintsUsed = 0L;
+
+  @Column(name = "total_completion_time", nullable = false)
+  @Builder.Default
+  private Long totalCompletionTime = 0L;
+
+  @LastModifiedDate
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+}
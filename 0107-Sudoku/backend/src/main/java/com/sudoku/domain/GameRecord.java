@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -16,6 +17,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -29,8 +31,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Builder
 public class GameRecord {
 
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_records_seq")
+  @SequenceGenerator(
+      name = "game_records_seq",
+      sequenceName = "game_records_seq",
+      allocationSize = GameRecord.ID_ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -52,6 +60,11 @@ public class GameRecord {
   @Builder.Default
   private Boolean isCompleted = false;
 
+  @Column(name = "is_given_up", nullable = false)
+  @ColumnDefault("false")
+  @Builder.Default
+  private Boolean isGivenUp = false;
+
   @CreatedDate
   @Column(name = "created_at", updatable = false)
   private LocalDateTime createdAt;
@@ -0,0 +1,15 @@
+package com.sudoku.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnonymousGameStatisticsResponse {
+
+  private Integer activeGames;
+  private Long expiredEvictions;
+  private Long capacityEvictions;
+}
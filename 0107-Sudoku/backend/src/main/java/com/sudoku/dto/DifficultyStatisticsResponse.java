@@ -0,0 +1,19 @@
+package com.sudoku.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DifficultyStatisticsResponse {
+
+  private String difficulty;
+  private Long gamesStarted;
+  private Long gamesCompleted;
+  private Long gamesGivenUp;
+  private Long hintsUsed;
+  private Double completionRate;
+  private Double averageCompletionTime;
+}
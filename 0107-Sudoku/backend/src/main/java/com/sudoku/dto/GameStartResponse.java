@@ -13,4 +13,5 @@ public class GameStartResponse {
   private String puzzle;
   private String difficulty;
   private Integer hintLimit;
+  private String gameToken;
 }
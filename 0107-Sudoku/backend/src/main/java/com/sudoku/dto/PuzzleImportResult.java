@@ -0,0 +1,20 @@
+package com.sudoku.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PuzzleImportResult {
+
+  private Long processedLines;
+  private Long importedPuzzles;
+  private Long rejectedLines;
+  private Map<String, Long> rejectedByReason;
+  private Map<String, Long> importedByDifficulty;
+  private Long elapsedMillis;
+  private Double linesPerSecond;
+}
@@ -0,0 +1,15 @@
+package com.sudoku.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsResponse {
+
+  private List<DifficultyStatisticsResponse> difficulties;
+  private AnonymousGameStatisticsResponse anonymousGames;
+}
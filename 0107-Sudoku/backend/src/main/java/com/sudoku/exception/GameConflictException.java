@@ -0,0 +1,8 @@
+package com.sudoku.exception;
+
+public class GameConflictException extends RuntimeException {
+
+  public GameConflictException(String message) {
+    super(message);
+  }
+}
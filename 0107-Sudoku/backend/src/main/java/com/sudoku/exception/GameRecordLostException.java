@@ -0,0 +1,8 @@
+package com.sudoku.exception;
+
+public class GameRecordLostException extends RuntimeException {
+
+  public GameRecordLostException(String message) {
+    super(message);
+  }
+}
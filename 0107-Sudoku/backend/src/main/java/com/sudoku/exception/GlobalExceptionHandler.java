@@ -49,6 +49,18 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
   }
 
+  @ExceptionHandler(GameConflictException.class)
+  public ResponseEntity<ErrorResponse> handleGameConflict(GameConflictException ex) {
+    ErrorResponse error = new ErrorResponse(ex.getMessage(), HttpStatus.CONFLICT.value());
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+  }
+
+  @ExceptionHandler(GameRecordLostException.class)
+  public ResponseEntity<ErrorResponse> handleGameRecordLost(GameRecordLostException ex) {
+    ErrorResponse error = new ErrorResponse(ex.getMessage(), HttpStatus.GONE.value());
+    return ResponseEntity.status(HttpStatus.GONE).body(error);
+  }
+
   @ExceptionHandler(InvalidBoardException.class)
   public ResponseEntity<ErrorResponse> handleInvalidBoard(InvalidBoardException ex) {
     ErrorResponse error = new ErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST.value());
@@ -0,0 +1,94 @@
+package com.sudoku.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
+
+public class ExportedPuzzleIterator implements Iterator<String>, AutoCloseable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int GZIP_MAGIC = 0x8b1f;
+
+  private final InputStream in;
+  private final BufferedReader lines;
+  private final byte[] record = new byte[PackedPuzzleCodec.RECORD_BYTES];
+  private String next;
+
+  public ExportedPuzzleIterator(Path file) throws IOException {
+    InputStream input = Files.newInputStream(file);
+    try {
+      in = new BufferedInputStream(new GZIPInputStream(input, BUFFER_SIZE), BUFFER_SIZE);
+      if (PackedPuzzleCodec.isPacked(in)) {
+        PackedPuzzleCodec.readHeader(in);
+        lines = null;
+      } else {
+        lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII), BUFFER_SIZE);
+      }
+    } catch (IOException | RuntimeException e) {
+      input.close();
+      throw e;
+    }
+  }
+
+  public static boolean isGzip(Path file) throws IOException {
+    try (InputStream input = Files.newInputStream(file)) {
+      byte[] magic = input.readNBytes(2);
+      return magic.length == 2 && ((magic[0] & 0xFF) | (magic[1] & 0xFF) << 8) == GZIP_MAGIC;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = lines != null ? readLine() : readRecord();
+    }
+    return next != null;
+  }
+
+  @Override
+  public String next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    String puzzle = next;
+    next = null;
+    return puzzle;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  private String readLine() {
+    try {
+      return lines.readLine();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String readRecord() {
+    try {
+      int read = in.readNBytes(record, 0, record.length);
+      if (read == 0) {
+        return null;
+      }
+      if (read < record.length) {
+        throw new IOException("Truncated packed puzzle record: " + read + " of " + record.length + " bytes");
+      }
+      return PackedPuzzleCodec.decode(record).getInitialBoard();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
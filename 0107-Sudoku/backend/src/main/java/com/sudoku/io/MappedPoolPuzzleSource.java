@@ -0,0 +1,46 @@
+package com.sudoku.io;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import com.sudoku.repository.PuzzleSource;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "puzzle.source", havingValue = "pool-file")
+public class MappedPoolPuzzleSource implements PuzzleSource {
+
+  private final Map<Difficulty, ByteBuffer> segments;
+
+  public MappedPoolPuzzleSource(@Value("${puzzle.pool.file}") Path file) throws IOException {
+    this.segments = PuzzlePoolFile.map(file);
+    log.info("Mapped puzzle pool {} with {}", file, segments.entrySet().stream()
+        .map(entry -> entry.getKey() + "=" + PuzzlePoolFile.recordCount(entry.getValue()))
+        .toList());
+  }
+
+  @Override
+  public Optional<Puzzle> findRandom(Difficulty difficulty) {
+    ByteBuffer segment = segments.get(difficulty);
+    int recordCount = PuzzlePoolFile.recordCount(segment);
+    if (recordCount == 0) {
+      return Optional.empty();
+    }
+    int index = ThreadLocalRandom.current().nextInt(recordCount);
+    return Optional.of(PuzzlePoolFile.read(segment, difficulty, index));
+  }
+
+  @Override
+  public long count(Difficulty difficulty) {
+    return PuzzlePoolFile.recordCount(segments.get(difficulty));
+  }
+}
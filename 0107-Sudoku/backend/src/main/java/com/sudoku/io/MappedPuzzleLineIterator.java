@@ -0,0 +1,104 @@
+package com.sudoku.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class MappedPuzzleLineIterator implements Iterator<String>, AutoCloseable {
+
+  private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+  private static final int MAX_LINE_LENGTH = 256;
+
+  private final FileChannel channel;
+  private final long fileSize;
+  private final int windowSize;
+  private final byte[] lineBuffer = new byte[MAX_LINE_LENGTH];
+  private MappedByteBuffer window;
+  private long windowStart;
+  private long position;
+  private String next;
+
+  public MappedPuzzleLineIterator(Path file) throws IOException {
+    this(file, DEFAULT_WINDOW_SIZE);
+  }
+
+  public MappedPuzzleLineIterator(Path file, int windowSize) throws IOException {
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+    }
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    this.fileSize = channel.size();
+    this.windowSize = windowSize;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readLine();
+    }
+    return next != null;
+  }
+
+  @Override
+  public String next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    String line = next;
+    next = null;
+    return line;
+  }
+
+  @Override
+  public void close() throws IOException {
+    window = null;
+    channel.close();
+  }
+
+  private String readLine() {
+    if (position >= fileSize) {
+      return null;
+    }
+
+    int length = 0;
+    boolean truncated = false;
+    while (position < fileSize) {
+      byte b = byteAt(position++);
+      if (b == '\n') {
+        break;
+      }
+      if (length < lineBuffer.length) {
+        lineBuffer[length++] = b;
+      } else {
+        truncated = true;
+      }
+    }
+    if (length > 0 && lineBuffer[length - 1] == '\r') {
+      length--;
+    }
+    String line = new String(lineBuffer, 0, length, StandardCharsets.US_ASCII);
+    return truncated ? line + "..." : line;
+  }
+
+  private byte byteAt(long offset) {
+    if (window == null || offset < windowStart || offset >= windowStart + window.limit()) {
+      map(offset);
+    }
+    return window.get((int) (offset - windowStart));
+  }
+
+  private void map(long offset) {
+    try {
+      windowStart = offset;
+      window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, fileSize - offset));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
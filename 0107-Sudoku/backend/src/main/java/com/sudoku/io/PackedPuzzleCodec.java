@@ -0,0 +1,102 @@
+package com.sudoku.io;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public final class PackedPuzzleCodec {
+
+  public static final int CELLS = 81;
+  public static final int BOARD_BYTES = (CELLS + 1) / 2;
+  public static final int RECORD_BYTES = 1 + BOARD_BYTES * 2;
+
+  private static final byte[] MAGIC = "SDKP".getBytes(StandardCharsets.US_ASCII);
+  private static final int VERSION = 1;
+  private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+  private PackedPuzzleCodec() {
+  }
+
+  public static void writeHeader(OutputStream out) throws IOException {
+    out.write(MAGIC);
+    out.write(VERSION);
+  }
+
+  public static boolean isPacked(InputStream in) throws IOException {
+    in.mark(MAGIC.length);
+    byte[] magic = in.readNBytes(MAGIC.length);
+    in.reset();
+    return Arrays.equals(magic, MAGIC);
+  }
+
+  public static void readHeader(InputStream in) throws IOException {
+    byte[] header = in.readNBytes(MAGIC.length + 1);
+    if (header.length != MAGIC.length + 1
+        || !Arrays.equals(header, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+      throw new IOException("Not a packed puzzle file");
+    }
+    if (header[MAGIC.length] != VERSION) {
+      throw new IOException("Unsupported packed puzzle version: " + header[MAGIC.length]);
+    }
+  }
+
+  public static void encode(Puzzle puzzle, byte[] record) {
+    record[0] = (byte) puzzle.getDifficulty().ordinal();
+    packBoard(puzzle.getInitialBoard(), record, 1);
+    packBoard(puzzle.getSolution(), record, 1 + BOARD_BYTES);
+  }
+
+  public static Puzzle decode(byte[] record) {
+    int ordinal = record[0];
+    if (ordinal < 0 || ordinal >= DIFFICULTIES.length) {
+      throw new IllegalArgumentException("Unknown difficulty ordinal: " + ordinal);
+    }
+    return Puzzle.builder()
+        .difficulty(DIFFICULTIES[ordinal])
+        .initialBoard(unpackBoard(record, 1))
+        .solution(unpackBoard(record, 1 + BOARD_BYTES))
+        .isActive(true)
+        .build();
+  }
+
+  public static void packBoard(String board, byte[] dest, int offset) {
+    if (board.length() != CELLS) {
+      throw new IllegalArgumentException("Board must have " + CELLS + " cells: " + board.length());
+    }
+    for (int i = 0; i < BOARD_BYTES; i++) {
+      int high = digit(board, i * 2);
+      int low = i * 2 + 1 < CELLS ? digit(board, i * 2 + 1) : 0;
+      dest[offset + i] = (byte) (high << 4 | low);
+    }
+  }
+
+  public static String unpackBoard(byte[] src, int offset) {
+    return unpackBoard(ByteBuffer.wrap(src), offset);
+  }
+
+  public static String unpackBoard(ByteBuffer src, int offset) {
+    char[] cells = new char[CELLS];
+    for (int i = 0; i < CELLS; i++) {
+      int packed = src.get(offset + i / 2);
+      int value = (i & 1) == 0 ? (packed >> 4) & 0xF : packed & 0xF;
+      if (value > 9) {
+        throw new IllegalArgumentException("Invalid packed cell value: " + value);
+      }
+      cells[i] = (char) ('0' + value);
+    }
+    return new String(cells);
+  }
+
+  private static int digit(String board, int index) {
+    char c = board.charAt(index);
+    if (c < '0' || c > '9') {
+      throw new IllegalArgumentException("Invalid cell at " + index + ": " + c);
+    }
+    return c - '0';
+  }
+}
@@ -0,0 +1,16 @@
+package com.sudoku.io;
+
+public enum PuzzleExportFormat {
+  LINES("txt"),
+  PACKED("bin");
+
+  private final String extension;
+
+  PuzzleExportFormat(String extension) {
+    this.extension = extension;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+}
@@ -0,0 +1,165 @@
+package com.sudoku.io;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+public final class PuzzlePoolFile {
+
+  public static final int RECORD_BYTES = Long.BYTES + PackedPuzzleCodec.BOARD_BYTES * 2;
+
+  private static final byte[] MAGIC = "SDPL".getBytes(StandardCharsets.US_ASCII);
+  private static final int VERSION = 1;
+  private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+  private static final int HEADER_BYTES = Long.BYTES + Long.BYTES * DIFFICULTIES.length;
+  private static final int WRITE_BUFFER_RECORDS = 1024;
+
+  private PuzzlePoolFile() {
+  }
+
+  public static Writer create(Path file) throws IOException {
+    return new Writer(file);
+  }
+
+  public static Map<Difficulty, ByteBuffer> map(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+      if (channel.size() < HEADER_BYTES || channel.read(header, 0) < HEADER_BYTES) {
+        throw new IOException("Not a puzzle pool file: " + file);
+      }
+      byte[] magic = new byte[MAGIC.length];
+      header.get(0, magic);
+      if (!Arrays.equals(magic, MAGIC)) {
+        throw new IOException("Not a puzzle pool file: " + file);
+      }
+      int version = header.get(MAGIC.length);
+      if (version != VERSION) {
+        throw new IOException("Unsupported puzzle pool version: " + version);
+      }
+
+      Map<Difficulty, ByteBuffer> segments = new EnumMap<>(Difficulty.class);
+      long offset = HEADER_BYTES;
+      for (Difficulty difficulty : DIFFICULTIES) {
+        long size = header.getLong(Long.BYTES * (difficulty.ordinal() + 1)) * RECORD_BYTES;
+        if (size > Integer.MAX_VALUE || offset + size > channel.size()) {
+          throw new IOException("Corrupt puzzle pool segment for " + difficulty + ": " + size + " bytes");
+        }
+        segments.put(difficulty, channel.map(FileChannel.MapMode.READ_ONLY, offset, size));
+        offset += size;
+      }
+      return segments;
+    }
+  }
+
+  public static int recordCount(ByteBuffer segment) {
+    return segment.capacity() / RECORD_BYTES;
+  }
+
+  public static Puzzle read(ByteBuffer segment, Difficulty difficulty, int index) {
+    int base = index * RECORD_BYTES;
+    return Puzzle.builder()
+        .id(segment.getLong(base))
+        .difficulty(difficulty)
+        .initialBoard(PackedPuzzleCodec.unpackBoard(segment, base + Long.BYTES))
+        .solution(PackedPuzzleCodec.unpackBoard(segment, base + Long.BYTES + PackedPuzzleCodec.BOARD_BYTES))
+        .isActive(true)
+        .build();
+  }
+
+  public static final class Writer implements AutoCloseable {
+
+    private final Path file;
+    private final Path tempFile;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * WRITE_BUFFER_RECORDS);
+    private final byte[] record = new byte[RECORD_BYTES];
+    private final long[] counts = new long[DIFFICULTIES.length];
+    private int lastOrdinal;
+    private boolean committed;
+
+    private Writer(Path file) throws IOException {
+      this.file = file;
+      Path directory = file.toAbsolutePath().getParent();
+      tempFile = Files.createTempFile(directory, file.getFileName() + ".", ".tmp");
+      try {
+        channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+        channel.position(HEADER_BYTES);
+      } catch (IOException e) {
+        Files.deleteIfExists(tempFile);
+        throw e;
+      }
+    }
+
+    public void append(Puzzle puzzle) throws IOException {
+      if (committed) {
+        throw new IllegalStateException("Puzzle pool already committed: " + file);
+      }
+      int ordinal = puzzle.getDifficulty().ordinal();
+      if (ordinal < lastOrdinal) {
+        throw new IllegalStateException("Puzzles must be appended in difficulty order");
+      }
+      lastOrdinal = ordinal;
+
+      ByteBuffer.wrap(record).putLong(0, puzzle.getId());
+      PackedPuzzleCodec.packBoard(puzzle.getInitialBoard(), record, Long.BYTES);
+      PackedPuzzleCodec.packBoard(puzzle.getSolution(), record, Long.BYTES + PackedPuzzleCodec.BOARD_BYTES);
+      if (buffer.remaining() < RECORD_BYTES) {
+        flush();
+      }
+      buffer.put(record);
+      counts[ordinal]++;
+    }
+
+    public long getCount(Difficulty difficulty) {
+      return counts[difficulty.ordinal()];
+    }
+
+    public void commit() throws IOException {
+      if (committed) {
+        return;
+      }
+      flush();
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+      header.put(MAGIC).put((byte) VERSION).position(Long.BYTES);
+      for (long count : counts) {
+        header.putLong(count);
+      }
+      header.flip();
+      channel.write(header, 0);
+      channel.force(true);
+      channel.close();
+      Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+      committed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (committed) {
+        return;
+      }
+      try {
+        channel.close();
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    }
+
+    private void flush() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+    }
+  }
+}
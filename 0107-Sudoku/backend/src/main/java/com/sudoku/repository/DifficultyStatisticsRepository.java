@@ -0,0 +1,10 @@
+package com.sudoku.repository;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.DifficultyStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DifficultyStatisticsRepository extends JpaRepository<DifficultyStatistics, Difficulty> {
+}
@@ -0,0 +1,199 @@
+package com.sudoku.repository;
+
+import com.sudoku.exception.GameRecordLostException;
+import com.sudoku.session.GameSessionCache;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class GameRecordBatchWriter {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO game_records (id, user_id, puzzle_id, hint_count, is_completed, is_given_up, created_at)"
+          + " VALUES (?, ?, ?, 0, FALSE, FALSE, ?)";
+
+  private final GameRecordIdAllocator gameRecordIdAllocator;
+  private final GameSessionCache gameSessionCache;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Map<Long, PendingGameRecord> pendingRecords = new ConcurrentHashMap<>();
+  private final Set<Long> inFlightIds = ConcurrentHashMap.newKeySet();
+  private final Set<Long> lostIds = ConcurrentHashMap.newKeySet();
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  public GameRecordBatchWriter(
+      GameRecordIdAllocator gameRecordIdAllocator,
+      GameSessionCache gameSessionCache,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${game.record-writer.batch-size:50}") int batchSize) {
+    this.gameRecordIdAllocator = gameRecordIdAllocator;
+    this.gameSessionCache = gameSessionCache;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.batchSize = batchSize;
+  }
+
+  public long enqueue(Long userId, Long puzzleId) {
+    long gameId = gameRecordIdAllocator.nextId();
+    PendingGameRecord record = new PendingGameRecord(gameId, userId, puzzleId, LocalDateTime.now());
+    TransactionCallbacks.afterCommit(() -> pendingRecords.put(gameId, record));
+    return gameId;
+  }
+
+  public boolean isPending(Long gameId) {
+    return pendingRecords.containsKey(gameId) || inFlightIds.contains(gameId);
+  }
+
+  public void checkNotLost(Long gameId) {
+    if (lostIds.contains(gameId)) {
+      throw new GameRecordLostException("Game " + gameId + " could not be saved, please start a new game");
+    }
+  }
+
+  public void ensurePersisted(Long gameId) {
+    PendingGameRecord record = pendingRecords.remove(gameId);
+    if (record == null && inFlightIds.contains(gameId)) {
+      flushLock.lock();
+      flushLock.unlock();
+      record = pendingRecords.remove(gameId);
+    }
+    if (record == null) {
+      checkNotLost(gameId);
+      return;
+    }
+
+    PendingGameRecord claimed = record;
+    TransactionCallbacks.afterRollback(() -> {
+      if (!lostIds.contains(gameId)) {
+        pendingRecords.putIfAbsent(gameId, claimed);
+      }
+    });
+    try {
+      jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, claimed));
+    } catch (DataIntegrityViolationException e) {
+      markLost(claimed, e);
+      checkNotLost(gameId);
+    } catch (DataAccessException e) {
+      pendingRecords.putIfAbsent(gameId, claimed);
+      throw e;
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${game.record-writer.flush-interval-ms:200}")
+  public void flush() {
+    flushLock.lock();
+    try {
+      List<PendingGameRecord> batch = claimPending();
+      if (batch.isEmpty()) {
+        return;
+      }
+
+      try {
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batchSize, this::bind));
+      } catch (DataIntegrityViolationException e) {
+        log.warn("Batch insert of {} game records failed, retrying one by one", batch.size(), e);
+        insertIndividually(batch);
+      } catch (DataAccessException e) {
+        log.warn("Batch insert of {} game records failed, keeping them queued for the next flush", batch.size(), e);
+        batch.forEach(record -> pendingRecords.putIfAbsent(record.getId(), record));
+      } finally {
+        batch.forEach(record -> inFlightIds.remove(record.getId()));
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    flush();
+    if (!pendingRecords.isEmpty()) {
+      log.error("Shutting down with {} game records that could not be persisted", pendingRecords.size());
+    }
+  }
+
+  private List<PendingGameRecord> claimPending() {
+    List<PendingGameRecord> batch = new ArrayList<>();
+    for (Long gameId : pendingRecords.keySet()) {
+      inFlightIds.add(gameId);
+      PendingGameRecord record = pendingRecords.remove(gameId);
+      if (record != null) {
+        batch.add(record);
+      } else {
+        inFlightIds.remove(gameId);
+      }
+    }
+    batch.sort(Comparator.comparingLong(PendingGameRecord::getId));
+    return batch;
+  }
+
+  private void insertIndividually(List<PendingGameRecord> batch) {
+    for (PendingGameRecord record : batch) {
+      try {
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, record)));
+      } catch (DataIntegrityViolationException e) {
+        markLost(record, e);
+      } catch (DataAccessException e) {
+        log.warn("Game record {} could not be persisted, keeping it queued", record.getId(), e);
+        pendingRecords.putIfAbsent(record.getId(), record);
+      }
+    }
+  }
+
+  private void markLost(PendingGameRecord record, DataIntegrityViolationException cause) {
+    lostIds.add(record.getId());
+    gameSessionCache.evict(record.getId());
+    log.error("Game record {} violates a database constraint and was not saved, failing the game",
+        record.getId(), cause);
+  }
+
+  private void bind(PreparedStatement ps, PendingGameRecord record) throws SQLException {
+    ps.setLong(1, record.getId());
+    if (record.getUserId() == null) {
+      ps.setNull(2, Types.BIGINT);
+    } else {
+      ps.setLong(2, record.getUserId());
+    }
+    ps.setLong(3, record.getPuzzleId());
+    ps.setTimestamp(4, Timestamp.valueOf(record.getCreatedAt()));
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static final class PendingGameRecord {
+
+    private final long id;
+    private final Long userId;
+    private final Long puzzleId;
+    private final LocalDateTime createdAt;
+  }
+}
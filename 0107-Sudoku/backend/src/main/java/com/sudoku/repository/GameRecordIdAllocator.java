@@ -0,0 +1,71 @@
+package com.sudoku.repository;
+
+import com.sudoku.domain.GameRecord;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class GameRecordIdAllocator {
+
+  private static final String NEXT_BLOCK_SQL = "SELECT NEXT VALUE FOR game_records_seq";
+  private static final String MAX_ID_SQL = "SELECT MAX(id) FROM game_records";
+  private static final String RESTART_SQL = "ALTER SEQUENCE game_records_seq RESTART WITH ";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ReentrantLock lock = new ReentrantLock();
+  private long nextId;
+  private long blockLimit;
+
+  @PostConstruct
+  void alignWithExistingIds() {
+    Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+    if (maxId == null) {
+      return;
+    }
+
+    lock.lock();
+    try {
+      long blockStart = nextBlock();
+      if (blockStart <= maxId) {
+        log.warn("game_records_seq returned {} but game_records already holds id {}, restarting the sequence",
+            blockStart, maxId);
+        jdbcTemplate.execute(RESTART_SQL + (maxId + 1));
+        blockStart = nextBlock();
+        if (blockStart <= maxId) {
+          throw new IllegalStateException(
+              "game_records_seq is at " + blockStart + " but game_records already holds id " + maxId);
+        }
+      }
+      nextId = blockStart;
+      blockLimit = blockStart + GameRecord.ID_ALLOCATION_SIZE;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long nextId() {
+    lock.lock();
+    try {
+      if (nextId == blockLimit) {
+        long blockStart = nextBlock();
+        nextId = blockStart;
+        blockLimit = blockStart + GameRecord.ID_ALLOCATION_SIZE;
+      }
+      return nextId++;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private long nextBlock() {
+    return jdbcTemplate.queryForObject(NEXT_BLOCK_SQL, Long.class);
+  }
+}
@@ -2,7 +2,11 @@ package com.sudoku.repository;
 
 import com.sudoku.domain.GameRecord;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,4 +15,22 @@ public interface GameRecordRepository extends JpaRepository<GameRecord, Long> {
   List<GameRecord> findByUserIdOrderByCreatedAtDesc(Long userId);
 
   long countByUserIdAndIsCompletedTrue(Long userId);
+
+  @Query("SELECT g FROM GameRecord g JOIN FETCH g.puzzle WHERE g.id = :id")
+  Optional<GameRecord> findWithPuzzleById(@Param("id") Long id);
+
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE GameRecord g SET g.hintCount = g.hintCount + 1"
+      + " WHERE g.id = :id AND g.isCompleted = false AND g.isGivenUp = false AND g.hintCount = :expectedHintCount")
+  int incrementHintCount(@Param("id") Long id, @Param("expectedHintCount") int expectedHintCount);
+
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE GameRecord g SET g.isCompleted = true, g.completionTime = :completionTime"
+      + " WHERE g.id = :id AND g.isCompleted = false AND g.isGivenUp = false")
+  int markCompleted(@Param("id") Long id, @Param("completionTime") Integer completionTime);
+
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE GameRecord g SET g.isGivenUp = true"
+      + " WHERE g.id = :id AND g.isCompleted = false AND g.isGivenUp = false")
+  int markGivenUp(@Param("id") Long id);
 }
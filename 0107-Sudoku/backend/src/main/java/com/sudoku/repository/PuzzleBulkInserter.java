@@ -0,0 +1,50 @@
+package com.sudoku.repository;
+
+import com.sudoku.solver.PuzzleGrade;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PuzzleBulkInserter {
+
+  private static final String INSERT_PREFIX =
+      "INSERT INTO puzzles (difficulty, initial_board, solution, is_active, created_at) VALUES ";
+  private static final String ROW_PLACEHOLDER = "(?, ?, ?, TRUE, ?)";
+  private static final int COLUMNS_PER_ROW = 4;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public int insert(List<PuzzleGrade> grades) {
+    if (grades.isEmpty()) {
+      return 0;
+    }
+
+    Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+    Object[] args = new Object[grades.size() * COLUMNS_PER_ROW];
+    int arg = 0;
+    for (PuzzleGrade grade : grades) {
+      args[arg++] = grade.getDifficulty();
+      args[arg++] = grade.getPuzzle();
+      args[arg++] = grade.getSolution();
+      args[arg++] = createdAt;
+    }
+    return jdbcTemplate.update(insertSql(grades.size()), args);
+  }
+
+  private static String insertSql(int rows) {
+    StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+    sql.append(INSERT_PREFIX);
+    for (int i = 0; i < rows; i++) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      sql.append(ROW_PLACEHOLDER);
+    }
+    return sql.toString();
+  }
+}
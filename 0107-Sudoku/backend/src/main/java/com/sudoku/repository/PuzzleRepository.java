@@ -2,10 +2,16 @@ package com.sudoku.repository;
 
 import com.sudoku.domain.Difficulty;
 import com.sudoku.domain.Puzzle;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,4 +22,15 @@ public interface PuzzleRepository extends JpaRepository<Puzzle, Long> {
   long countByDifficultyAndIsActiveTrue(Difficulty difficulty);
 
   Page<Puzzle> findByDifficultyAndIsActiveTrue(Difficulty difficulty, Pageable pageable);
+
+  List<Puzzle> findAllByDifficultyAndIsActiveTrue(Difficulty difficulty, Pageable pageable);
+
+  @Query("SELECT p FROM Puzzle p WHERE p.isActive = true AND (:difficulty IS NULL OR p.difficulty = :difficulty) "
+      + "ORDER BY p.id")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  Stream<Puzzle> streamActive(@Param("difficulty") Difficulty difficulty);
 }
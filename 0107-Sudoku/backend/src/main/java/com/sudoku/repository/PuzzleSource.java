@@ -0,0 +1,12 @@
+package com.sudoku.repository;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import java.util.Optional;
+
+public interface PuzzleSource {
+
+  Optional<Puzzle> findRandom(Difficulty difficulty);
+
+  long count(Difficulty difficulty);
+}
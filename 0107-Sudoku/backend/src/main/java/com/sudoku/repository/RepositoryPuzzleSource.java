@@ -0,0 +1,38 @@
+package com.sudoku.repository;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "puzzle.source", havingValue = "repository", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RepositoryPuzzleSource implements PuzzleSource {
+
+  private final PuzzleRepository puzzleRepository;
+  private final Random random = new Random();
+
+  @Override
+  public Optional<Puzzle> findRandom(Difficulty difficulty) {
+    long puzzleCount = puzzleRepository.countByDifficultyAndIsActiveTrue(difficulty);
+    if (puzzleCount == 0) {
+      return Optional.empty();
+    }
+
+    int randomOffset = random.nextInt((int) puzzleCount);
+    List<Puzzle> puzzles = puzzleRepository.findAllByDifficultyAndIsActiveTrue(
+        difficulty, PageRequest.of(randomOffset, 1));
+    return puzzles.stream().findFirst();
+  }
+
+  @Override
+  public long count(Difficulty difficulty) {
+    return puzzleRepository.countByDifficultyAndIsActiveTrue(difficulty);
+  }
+}
@@ -0,0 +1,45 @@
+package com.sudoku.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GameTokenSigner {
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private final SecretKeySpec secretKey;
+
+  public GameTokenSigner(@Value("${game.anonymous.token-secret:${jwt.secret}}") String secret) {
+    this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+  }
+
+  public String sign(long gameId, long issuedAtMillis) {
+    return issuedAtMillis + "." + Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(hmac(gameId + ":" + issuedAtMillis));
+  }
+
+  public boolean verify(long gameId, long issuedAtMillis, String token) {
+    if (token == null) {
+      return false;
+    }
+    byte[] expected = sign(gameId, issuedAtMillis).getBytes(StandardCharsets.UTF_8);
+    return MessageDigest.isEqual(expected, token.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private byte[] hmac(String payload) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(secretKey);
+      return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to sign game token", e);
+    }
+  }
+}
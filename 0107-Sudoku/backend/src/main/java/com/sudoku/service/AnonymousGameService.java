@@ -0,0 +1,98 @@
+package com.sudoku.service;
+
+import com.sudoku.dto.GameCompleteRequest;
+import com.sudoku.dto.GameCompleteResponse;
+import com.sudoku.dto.GameGiveUpResponse;
+import com.sudoku.dto.GameHintRequest;
+import com.sudoku.dto.GameHintResponse;
+import com.sudoku.exception.GameAlreadyCompletedException;
+import com.sudoku.exception.HintLimitExceededException;
+import com.sudoku.exception.InvalidBoardException;
+import com.sudoku.session.AnonymousGame;
+import com.sudoku.session.AnonymousGameStore;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class AnonymousGameService {
+
+  private final AnonymousGameStore anonymousGameStore;
+  private final GameStatisticsService gameStatisticsService;
+
+  @Timed(value = "sudoku.game.anonymous.operation", extraTags = {"operation", "complete"}, histogram = true)
+  public GameCompleteResponse completeGame(Long gameId, String gameToken, GameCompleteRequest request) {
+    AnonymousGame game = anonymousGameStore.find(gameId, gameToken);
+
+    checkPlayable(game);
+
+    if (!game.getSolution().equals(request.getFinalBoard())) {
+      throw new InvalidBoardException("Submitted board does not match the solution");
+    }
+
+    if (!game.markCompleted()) {
+      checkPlayable(game);
+      throw new GameAlreadyCompletedException("Game already completed with id: " + gameId);
+    }
+    gameStatisticsService.recordGameCompleted(game.getDifficulty(), request.getCompletionTime());
+
+    return new GameCompleteResponse(
+        game.getId(),
+        request.getCompletionTime(),
+        game.getHintCount(),
+        false
+    );
+  }
+
+  @Timed(value = "sudoku.game.anonymous.operation", extraTags = {"operation", "give_up"}, histogram = true)
+  public GameGiveUpResponse giveUpGame(Long gameId, String gameToken) {
+    AnonymousGame game = anonymousGameStore.find(gameId, gameToken);
+
+    if (game.markGivenUp()) {
+      gameStatisticsService.recordGameGivenUp(game.getDifficulty());
+    } else if (game.isCompleted()) {
+      throw new GameAlreadyCompletedException("Game already completed with id: " + gameId);
+    }
+
+    return new GameGiveUpResponse(game.getId(), game.getSolution());
+  }
+
+  @Timed(value = "sudoku.game.anonymous.operation", extraTags = {"operation", "hint"}, histogram = true)
+  public GameHintResponse getHint(Long gameId, String gameToken, GameHintRequest request) {
+    AnonymousGame game = anonymousGameStore.find(gameId, gameToken);
+
+    checkPlayable(game);
+
+    int hintLimit = GameService.getHintLimit(game.getDifficulty());
+
+    if (game.getHintCount() >= hintLimit) {
+      throw new HintLimitExceededException("Hint limit exceeded for game: " + gameId);
+    }
+
+    int emptyIndex = GameService.findFirstEmptyCell(request.getCurrentBoard());
+    if (emptyIndex == -1) {
+      throw new InvalidBoardException("No empty cells to hint");
+    }
+
+    if (!game.tryUseHint(hintLimit)) {
+      throw new HintLimitExceededException("Hint limit exceeded for game: " + gameId);
+    }
+
+    int row = emptyIndex / 9;
+    int col = emptyIndex % 9;
+    int value = Character.getNumericValue(game.getSolution().charAt(emptyIndex));
+    gameStatisticsService.recordHintUsed(game.getDifficulty());
+
+    return new GameHintResponse(row, col, value, hintLimit - game.getHintCount());
+  }
+
+  private static void checkPlayable(AnonymousGame game) {
+    if (game.isCompleted()) {
+      throw new GameAlreadyCompletedException("Game already completed with id: " + game.getId());
+    }
+    if (game.isGivenUp()) {
+      throw new GameAlreadyCompletedException("Game was given up with id: " + game.getId());
+    }
+  }
+}
@@ -1,7 +1,6 @@
 package com.sudoku.service;
 
 import com.sudoku.domain.Difficulty;
-import com.sudoku.domain.GameRecord;
 import com.sudoku.domain.Puzzle;
 import com.sudoku.domain.User;
 import com.sudoku.dto.GameCompleteRequest;
@@ -11,17 +10,22 @@ import com.sudoku.dto.GameHintRequest;
 import com.sudoku.dto.GameHintResponse;
 import com.sudoku.dto.GameStartResponse;
 import com.sudoku.exception.GameAlreadyCompletedException;
+import com.sudoku.exception.GameConflictException;
 import com.sudoku.exception.GameNotFoundException;
 import com.sudoku.exception.HintLimitExceededException;
 import com.sudoku.exception.InvalidBoardException;
 import com.sudoku.exception.NoPuzzleAvailableException;
+import com.sudoku.repository.GameRecordBatchWriter;
 import com.sudoku.repository.GameRecordRepository;
-import com.sudoku.repository.PuzzleRepository;
+import com.sudoku.repository.PuzzleSource;
+import com.sudoku.repository.TransactionCallbacks;
 import com.sudoku.repository.UserRepository;
-import java.util.Random;
+import com.sudoku.session.AnonymousGame;
+import com.sudoku.session.AnonymousGameStore;
+import com.sudoku.session.GameSession;
+import com.sudoku.session.GameSessionCache;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -31,43 +35,53 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class GameService {
 
-  private final PuzzleRepository puzzleRepository;
+  private final PuzzleSource puzzleSource;
   private final GameRecordRepository gameRecordRepository;
+  private final GameRecordBatchWriter gameRecordBatchWriter;
   private final UserRepository userRepository;
-  private final Random random = new Random();
+  private final GameStatisticsService gameStatisticsService;
+  private final AnonymousGameStore anonymousGameStore;
+  private final GameSessionCache gameSessionCache;
 
   private static final int HINT_LIMIT_EASY = 5;
   private static final int HINT_LIMIT_MEDIUM = 3;
   private static final int HINT_LIMIT_HARD = 2;
   private static final int HINT_LIMIT_EXPERT = 1;
+  private static final int MAX_HINT_ATTEMPTS = 2;
 
+  @Timed(value = "sudoku.game.operation", extraTags = {"operation", "start"}, histogram = true)
   @Transactional
   public GameStartResponse startGame(Difficulty difficulty) {
-    long puzzleCount = puzzleRepository.countByDifficultyAndIsActiveTrue(difficulty);
-
-    if (puzzleCount == 0) {
-      throw new NoPuzzleAvailableException("No puzzles available for difficulty: " + difficulty);
-    }
-
-    int randomOffset = random.nextInt((int) puzzleCount);
-    Page<Puzzle> puzzlePage = puzzleRepository.findByDifficultyAndIsActiveTrue(
-        difficulty, PageRequest.of(randomOffset, 1));
-    Puzzle selectedPuzzle = puzzlePage.getContent().get(0);
+    Puzzle selectedPuzzle = puzzleSource.findRandom(difficulty)
+        .orElseThrow(() -> new NoPuzzleAvailableException("No puzzles available for difficulty: " + difficulty));
 
     User currentUser = getCurrentAuthenticatedUser();
 
-    GameRecord gameRecord = GameRecord.builder()
-        .puzzle(selectedPuzzle)
-        .user(currentUser)
-        .build();
-
-    GameRecord savedGameRecord = gameRecordRepository.save(gameRecord);
+    Long gameId;
+    String gameToken = null;
+    if (currentUser != null) {
+      gameId = gameRecordBatchWriter.enqueue(currentUser.getId(), selectedPuzzle.getId());
+      GameSession session = GameSession.builder()
+          .gameId(gameId)
+          .puzzleId(selectedPuzzle.getId())
+          .userId(currentUser.getId())
+          .difficulty(difficulty)
+          .solution(selectedPuzzle.getSolution())
+          .build();
+      TransactionCallbacks.afterCommit(() -> gameSessionCache.put(session));
+    } else {
+      AnonymousGame anonymousGame = anonymousGameStore.create(selectedPuzzle);
+      gameId = anonymousGame.getId();
+      gameToken = anonymousGameStore.issueToken(anonymousGame);
+    }
+    gameStatisticsService.recordGameStarted(difficulty);
 
     return new GameStartResponse(
-        savedGameRecord.getId(),
+        gameId,
         selectedPuzzle.getInitialBoard(),
         difficulty.name(),
-        getHintLimit(difficulty)
+        getHintLimit(difficulty),
+        gameToken
     );
   }
 
@@ -81,7 +95,7 @@ public class GameService {
     return userRepository.findByEmail(email).orElse(null);
   }
 
-  private int getHintLimit(Difficulty difficulty) {
+  static int getHintLimit(Difficulty difficulty) {
     return switch (difficulty) {
       case EASY -> HINT_LIMIT_EASY;
       case MEDIUM -> HINT_LIMIT_MEDIUM;
@@ -90,85 +104,130 @@ public class GameService {
     };
   }
 
+  @Timed(value = "sudoku.game.operation", extraTags = {"operation", "complete"}, histogram = true)
   @Transactional
   public GameCompleteResponse completeGame(Long gameId, GameCompleteRequest request) {
-    GameRecord gameRecord = gameRecordRepository.findById(gameId)
-        .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
+    GameSession session = getSession(gameId);
 
-    if (gameRecord.getIsCompleted()) {
-      throw new GameAlreadyCompletedException("Game already completed with id: " + gameId);
-    }
+    checkPlayable(session);
 
-    String solution = gameRecord.getPuzzle().getSolution();
-    if (!solution.equals(request.getFinalBoard())) {
+    if (!session.getSolution().equals(request.getFinalBoard())) {
       throw new InvalidBoardException("Submitted board does not match the solution");
     }
 
-    gameRecord.setIsCompleted(true);
-    gameRecord.setCompletionTime(request.getCompletionTime());
-    gameRecordRepository.save(gameRecord);
+    gameRecordBatchWriter.ensurePersisted(gameId);
+    if (gameRecordRepository.markCompleted(gameId, request.getCompletionTime()) == 0) {
+      gameSessionCache.evict(gameId);
+      checkPlayable(loadSession(gameId));
+      throw new GameAlreadyCompletedException("Game already completed with id: " + gameId);
+    }
+    GameSession completed = session.withCompleted();
+    TransactionCallbacks.afterCommit(() -> gameSessionCache.update(completed));
+    gameStatisticsService.recordGameCompleted(session.getDifficulty(), request.getCompletionTime());
 
-    boolean isRankingEligible = gameRecord.getUser() != null && gameRecord.getHintCount() == 0;
+    boolean isRankingEligible = session.getUserId() != null && session.getHintCount() == 0;
 
     return new GameCompleteResponse(
-        gameRecord.getId(),
-        gameRecord.getCompletionTime(),
-        gameRecord.getHintCount(),
+        session.getGameId(),
+        request.getCompletionTime(),
+        session.getHintCount(),
         isRankingEligible
     );
   }
 
-  @Transactional(readOnly = true)
+  @Timed(value = "sudoku.game.operation", extraTags = {"operation", "give_up"}, histogram = true)
+  @Transactional
   public GameGiveUpResponse giveUpGame(Long gameId) {
-    GameRecord gameRecord = gameRecordRepository.findById(gameId)
-        .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
+    GameSession session = getSession(gameId);
 
-    if (gameRecord.getIsCompleted()) {
+    if (session.isCompleted()) {
       throw new GameAlreadyCompletedException("Game already completed with id: " + gameId);
     }
 
-    String solution = gameRecord.getPuzzle().getSolution();
+    if (!session.isGivenUp()) {
+      gameRecordBatchWriter.ensurePersisted(gameId);
+      if (gameRecordRepository.markGivenUp(gameId) == 0) {
+        gameSessionCache.evict(gameId);
+        session = loadSession(gameId);
+        if (session.isCompleted()) {
+          throw new GameAlreadyCompletedException("Game already completed with id: " + gameId);
+        }
+      } else {
+        GameSession givenUp = session.withGivenUp();
+        TransactionCallbacks.afterCommit(() -> gameSessionCache.update(givenUp));
+        gameStatisticsService.recordGameGivenUp(session.getDifficulty());
+      }
+    }
 
-    return new GameGiveUpResponse(gameRecord.getId(), solution);
+    return new GameGiveUpResponse(session.getGameId(), session.getSolution());
   }
 
+  @Timed(value = "sudoku.game.operation", extraTags = {"operation", "hint"}, histogram = true)
   @Transactional
   public GameHintResponse getHint(Long gameId, GameHintRequest request) {
-    GameRecord gameRecord = gameRecordRepository.findById(gameId)
-        .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
+    GameSession session = getSession(gameId);
+    gameRecordBatchWriter.ensurePersisted(gameId);
 
-    if (gameRecord.getIsCompleted()) {
-      throw new GameAlreadyCompletedException("Game already completed with id: " + gameId);
-    }
+    for (int attempt = 1; ; attempt++) {
+      checkPlayable(session);
 
-    Difficulty difficulty = gameRecord.getPuzzle().getDifficulty();
-    int hintLimit = getHintLimit(difficulty);
+      int hintLimit = getHintLimit(session.getDifficulty());
 
-    if (gameRecord.getHintCount() >= hintLimit) {
-      throw new HintLimitExceededException("Hint limit exceeded for game: " + gameId);
-    }
+      if (session.getHintCount() >= hintLimit) {
+        throw new HintLimitExceededException("Hint limit exceeded for game: " + gameId);
+      }
 
-    String currentBoard = request.getCurrentBoard();
-    String solution = gameRecord.getPuzzle().getSolution();
+      int emptyIndex = findFirstEmptyCell(request.getCurrentBoard());
+      if (emptyIndex == -1) {
+        throw new InvalidBoardException("No empty cells to hint");
+      }
 
-    int emptyIndex = findFirstEmptyCell(currentBoard);
-    if (emptyIndex == -1) {
-      throw new InvalidBoardException("No empty cells to hint");
-    }
+      if (gameRecordRepository.incrementHintCount(gameId, session.getHintCount()) == 0) {
+        gameSessionCache.evict(gameId);
+        if (attempt == MAX_HINT_ATTEMPTS) {
+          throw new GameConflictException("Game " + gameId + " was updated concurrently, please retry");
+        }
+        session = loadSession(gameId);
+        continue;
+      }
 
-    int row = emptyIndex / 9;
-    int col = emptyIndex % 9;
-    int value = Character.getNumericValue(solution.charAt(emptyIndex));
+      GameSession updated = session.withHintUsed();
+      TransactionCallbacks.afterCommit(() -> gameSessionCache.update(updated));
+      gameStatisticsService.recordHintUsed(session.getDifficulty());
 
-    gameRecord.setHintCount(gameRecord.getHintCount() + 1);
-    gameRecordRepository.save(gameRecord);
+      int row = emptyIndex / 9;
+      int col = emptyIndex % 9;
+      int value = Character.getNumericValue(session.getSolution().charAt(emptyIndex));
 
-    int remainingHints = hintLimit - gameRecord.getHintCount();
+      return new GameHintResponse(row, col, value, hintLimit - updated.getHintCount());
+    }
+  }
 
-    return new GameHintResponse(row, col, value, remainingHints);
+  private static void checkPlayable(GameSession session) {
+    if (session.isCompleted()) {
+      throw new GameAlreadyCompletedException("Game already completed with id: " + session.getGameId());
+    }
+    if (session.isGivenUp()) {
+      throw new GameAlreadyCompletedException("Game was given up with id: " + session.getGameId());
+    }
+  }
+
+  private GameSession getSession(Long gameId) {
+    gameRecordBatchWriter.checkNotLost(gameId);
+    GameSession session = gameSessionCache.get(gameId);
+    return session != null ? session : loadSession(gameId);
+  }
+
+  private GameSession loadSession(Long gameId) {
+    gameRecordBatchWriter.ensurePersisted(gameId);
+    GameSession session = gameRecordRepository.findWithPuzzleById(gameId)
+        .map(GameSession::from)
+        .orElseThrow(() -> new GameNotFoundException("Game not found with id: " + gameId));
+    gameSessionCache.put(session);
+    return session;
   }
 
-  private int findFirstEmptyCell(String board) {
+  static int findFirstEmptyCell(String board) {
     for (int i = 0; i < board.length(); i++) {
       if (board.charAt(i) == '0') {
         return i;
@@ -0,0 +1,216 @@
+package com.sudoku.service;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.DifficultyStatistics;
+import com.sudoku.dto.AnonymousGameStatisticsResponse;
+import com.sudoku.dto.DifficultyStatisticsResponse;
+import com.sudoku.dto.StatisticsResponse;
+import com.sudoku.repository.DifficultyStatisticsRepository;
+import com.sudoku.repository.TransactionCallbacks;
+import com.sudoku.session.AnonymousGameStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class GameStatisticsService {
+
+  private static final String ADD_SQL =
+      "UPDATE difficulty_statistics SET games_started = games_started + ?, games_completed = games_completed + ?,"
+          + " games_given_up = games_given_up + ?, hints_used = hints_used + ?,"
+          + " total_completion_time = total_completion_time + ?, updated_at = ? WHERE difficulty = ?";
+  private static final String INSERT_SQL =
+      "INSERT INTO difficulty_statistics (games_started, games_completed, games_given_up, hints_used,"
+          + " total_completion_time, updated_at, difficulty) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private final DifficultyStatisticsRepository difficultyStatisticsRepository;
+  private final AnonymousGameStore anonymousGameStore;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Map<Difficulty, DifficultyCounters> counters = new EnumMap<>(Difficulty.class);
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  public GameStatisticsService(
+      DifficultyStatisticsRepository difficultyStatisticsRepository,
+      AnonymousGameStore anonymousGameStore,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    this.difficultyStatisticsRepository = difficultyStatisticsRepository;
+    this.anonymousGameStore = anonymousGameStore;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    for (Difficulty difficulty : Difficulty.values()) {
+      counters.put(difficulty, new DifficultyCounters());
+    }
+  }
+
+  @PostConstruct
+  void restoreFromRollup() {
+    for (DifficultyStatistics rollup : difficultyStatisticsRepository.findAll()) {
+      counters.get(rollup.getDifficulty()).restore(rollup);
+    }
+  }
+
+  public void recordGameStarted(Difficulty difficulty) {
+    TransactionCallbacks.afterCommit(counters.get(difficulty).gamesStarted::increment);
+  }
+
+  public void recordGameCompleted(Difficulty difficulty, int completionTime) {
+    DifficultyCounters difficultyCounters = counters.get(difficulty);
+    TransactionCallbacks.afterCommit(() -> {
+      difficultyCounters.gamesCompleted.increment();
+      difficultyCounters.totalCompletionTime.add(completionTime);
+    });
+  }
+
+  public void recordGameGivenUp(Difficulty difficulty) {
+    TransactionCallbacks.afterCommit(counters.get(difficulty).gamesGivenUp::increment);
+  }
+
+  public void recordHintUsed(Difficulty difficulty) {
+    TransactionCallbacks.afterCommit(counters.get(difficulty).hintsUsed::increment);
+  }
+
+  public StatisticsResponse getStatistics() {
+    List<DifficultyStatisticsResponse> difficulties = new ArrayList<>();
+    for (Difficulty difficulty : Difficulty.values()) {
+      difficulties.add(counters.get(difficulty).toResponse(difficulty));
+    }
+    AnonymousGameStatisticsResponse anonymousGames = new AnonymousGameStatisticsResponse(
+        anonymousGameStore.size(),
+        anonymousGameStore.getExpiredEvictions(),
+        anonymousGameStore.getCapacityEvictions());
+    return new StatisticsResponse(difficulties, anonymousGames);
+  }
+
+  @Scheduled(
+      fixedDelayString = "${statistics.flush-interval-ms:60000}",
+      initialDelayString = "${statistics.flush-interval-ms:60000}")
+  @PreDestroy
+  public void flush() {
+    flushLock.lock();
+    try {
+      Map<Difficulty, long[]> deltas = new EnumMap<>(Difficulty.class);
+      for (Difficulty difficulty : Difficulty.values()) {
+        long[] delta = counters.get(difficulty).unflushed();
+        if (!isZero(delta)) {
+          deltas.put(difficulty, delta);
+        }
+      }
+      if (deltas.isEmpty()) {
+        return;
+      }
+
+      try {
+        transactionTemplate.executeWithoutResult(status -> deltas.forEach(this::addToRollup));
+      } catch (DataAccessException e) {
+        log.warn("Statistics flush failed, keeping the deltas for the next flush", e);
+        return;
+      }
+      deltas.forEach((difficulty, delta) -> counters.get(difficulty).markFlushed(delta));
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void addToRollup(Difficulty difficulty, long[] delta) {
+    Object[] args = rollupArgs(difficulty, delta);
+    if (jdbcTemplate.update(ADD_SQL, args) > 0) {
+      return;
+    }
+    try {
+      jdbcTemplate.update(INSERT_SQL, args);
+    } catch (DataIntegrityViolationException e) {
+      jdbcTemplate.update(ADD_SQL, args);
+    }
+  }
+
+  private static Object[] rollupArgs(Difficulty difficulty, long[] delta) {
+    Object[] args = new Object[delta.length + 2];
+    for (int i = 0; i < delta.length; i++) {
+      args[i] = delta[i];
+    }
+    args[delta.length] = Timestamp.valueOf(LocalDateTime.now());
+    args[delta.length + 1] = difficulty.name();
+    return args;
+  }
+
+  private static boolean isZero(long[] delta) {
+    for (long value : delta) {
+      if (value != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static final class DifficultyCounters {
+
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder gamesCompleted = new LongAdder();
+    private final LongAdder gamesGivenUp = new LongAdder();
+    private final LongAdder hintsUsed = new LongAdder();
+    private final LongAdder totalCompletionTime = new LongAdder();
+    private final long[] flushed = new long[5];
+
+    private void restore(DifficultyStatistics rollup) {
+      gamesStarted.add(rollup.getGamesStarted());
+      gamesCompleted.add(rollup.getGamesCompleted());
+      gamesGivenUp.add(rollup.getGamesGivenUp());
+      hintsUsed.add(rollup.getHintsUsed());
+      totalCompletionTime.add(rollup.getTotalCompletionTime());
+      markFlushed(unflushed());
+    }
+
+    private long[] unflushed() {
+      long[] totals = {
+          gamesStarted.sum(), gamesCompleted.sum(), gamesGivenUp.sum(), hintsUsed.sum(), totalCompletionTime.sum()
+      };
+      for (int i = 0; i < totals.length; i++) {
+        totals[i] -= flushed[i];
+      }
+      return totals;
+    }
+
+    private void markFlushed(long[] delta) {
+      for (int i = 0; i < delta.length; i++) {
+        flushed[i] += delta[i];
+      }
+    }
+
+    private DifficultyStatisticsResponse toResponse(Difficulty difficulty) {
+      long started = gamesStarted.sum();
+      long completed = gamesCompleted.sum();
+      Double completionRate = started == 0 ? null : (double) completed / started;
+      Double averageCompletionTime = completed == 0 ? null : (double) totalCompletionTime.sum() / completed;
+
+      return new DifficultyStatisticsResponse(
+          difficulty.name(),
+          started,
+          completed,
+          gamesGivenUp.sum(),
+          hintsUsed.sum(),
+          completionRate,
+          averageCompletionTime
+      );
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.sudoku.service;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import com.sudoku.io.PackedPuzzleCodec;
+import com.sudoku.io.PuzzleExportFormat;
+import com.sudoku.io.PuzzlePoolFile;
+import com.sudoku.repository.PuzzleRepository;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PuzzleExportService {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final PuzzleRepository puzzleRepository;
+  private final EntityManager entityManager;
+
+  @Transactional(readOnly = true)
+  public long export(OutputStream out, PuzzleExportFormat format, Difficulty difficulty) throws IOException {
+    long start = System.nanoTime();
+    long exported = 0;
+    GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+    OutputStream buffered = new BufferedOutputStream(gzip, BUFFER_SIZE);
+    byte[] record = new byte[PackedPuzzleCodec.RECORD_BYTES];
+
+    if (format == PuzzleExportFormat.PACKED) {
+      PackedPuzzleCodec.writeHeader(buffered);
+    }
+    try (Stream<Puzzle> puzzles = puzzleRepository.streamActive(difficulty)) {
+      Iterator<Puzzle> iterator = puzzles.iterator();
+      while (iterator.hasNext()) {
+        Puzzle puzzle = iterator.next();
+        if (format == PuzzleExportFormat.PACKED) {
+          PackedPuzzleCodec.encode(puzzle, record);
+          buffered.write(record);
+        } else {
+          buffered.write(puzzle.getInitialBoard().getBytes(StandardCharsets.US_ASCII));
+          buffered.write('\n');
+        }
+        entityManager.detach(puzzle);
+        exported++;
+      }
+    }
+    buffered.flush();
+    gzip.finish();
+
+    log.info("Exported {} puzzles as {} in {} ms", exported, format,
+        (System.nanoTime() - start) / 1_000_000);
+    return exported;
+  }
+
+  @Transactional(readOnly = true)
+  public void writePool(Path file) throws IOException {
+    long start = System.nanoTime();
+    try (PuzzlePoolFile.Writer writer = PuzzlePoolFile.create(file)) {
+      for (Difficulty difficulty : Difficulty.values()) {
+        try (Stream<Puzzle> puzzles = puzzleRepository.streamActive(difficulty)) {
+          Iterator<Puzzle> iterator = puzzles.iterator();
+          while (iterator.hasNext()) {
+            Puzzle puzzle = iterator.next();
+            writer.append(puzzle);
+            entityManager.detach(puzzle);
+          }
+        }
+        log.info("Wrote {} {} puzzles to pool {}", writer.getCount(difficulty), difficulty, file);
+      }
+      writer.commit();
+    }
+    log.info("Wrote puzzle pool {} in {} ms", file, (System.nanoTime() - start) / 1_000_000);
+  }
+}
@@ -0,0 +1,88 @@
+package com.sudoku.service;
+
+import com.sudoku.dto.PuzzleImportResult;
+import com.sudoku.io.ExportedPuzzleIterator;
+import com.sudoku.io.MappedPuzzleLineIterator;
+import com.sudoku.repository.PuzzleBulkInserter;
+import com.sudoku.solver.BatchPuzzleProcessor;
+import com.sudoku.solver.BatchSummary;
+import com.sudoku.solver.PuzzleGrade;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class PuzzleImportService {
+
+  private final PuzzleBulkInserter puzzleBulkInserter;
+  private final int rowsPerStatement;
+  private final int parallelism;
+
+  public PuzzleImportService(
+      PuzzleBulkInserter puzzleBulkInserter,
+      @Value("${puzzle.import.rows-per-statement:1000}") int rowsPerStatement,
+      @Value("${puzzle.import.parallelism:0}") int parallelism) {
+    this.puzzleBulkInserter = puzzleBulkInserter;
+    this.rowsPerStatement = rowsPerStatement;
+    this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+  }
+
+  public PuzzleImportResult importFile(Path file) throws IOException {
+    BatchPuzzleProcessor processor = new BatchPuzzleProcessor(parallelism, rowsPerStatement);
+    List<PuzzleGrade> pending = new ArrayList<>(rowsPerStatement);
+    long[] imported = new long[1];
+
+    Consumer<PuzzleGrade> sink = grade -> {
+      if (!grade.isGraded()) {
+        log.debug("Rejected line {}: {}", grade.getLineNumber(), grade.getStatus());
+        return;
+      }
+      pending.add(grade);
+      if (pending.size() >= rowsPerStatement) {
+        imported[0] += puzzleBulkInserter.insert(pending);
+        pending.clear();
+      }
+    };
+
+    BatchSummary summary;
+    if (ExportedPuzzleIterator.isGzip(file)) {
+      try (ExportedPuzzleIterator puzzles = new ExportedPuzzleIterator(file)) {
+        summary = processor.process(puzzles, sink);
+      }
+    } else {
+      try (MappedPuzzleLineIterator lines = new MappedPuzzleLineIterator(file)) {
+        summary = processor.process(lines, sink);
+      }
+    }
+    imported[0] += puzzleBulkInserter.insert(pending);
+
+    Map<String, Long> rejectedByReason = new LinkedHashMap<>();
+    for (PuzzleGrade.Status status : PuzzleGrade.Status.values()) {
+      if (status != PuzzleGrade.Status.GRADED && summary.getCount(status) > 0) {
+        rejectedByReason.put(status.name(), summary.getCount(status));
+      }
+    }
+
+    PuzzleImportResult result = new PuzzleImportResult(
+        summary.getProcessed(),
+        imported[0],
+        summary.getRejected(),
+        rejectedByReason,
+        summary.getDifficultyCounts(),
+        TimeUnit.NANOSECONDS.toMillis(summary.getElapsedNanos()),
+        summary.getPuzzlesPerSecond());
+    log.info("Imported {} puzzles from {} ({} lines, {} rejected {}, {} lines/s)",
+        result.getImportedPuzzles(), file, result.getProcessedLines(), result.getRejectedLines(),
+        rejectedByReason, String.format("%.0f", result.getLinesPerSecond()));
+    return result;
+  }
+}
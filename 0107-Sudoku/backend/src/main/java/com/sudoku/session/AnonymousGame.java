@@ -0,0 +1,63 @@
+package com.sudoku.session;
+
+import com.sudoku.domain.Difficulty;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class AnonymousGame {
+
+  private final Long id;
+  private final Long puzzleId;
+  private final Difficulty difficulty;
+  private final String solution;
+  private final Instant createdAt;
+  @Getter(AccessLevel.NONE)
+  private final AtomicInteger hintCount = new AtomicInteger();
+  @Getter(AccessLevel.NONE)
+  private final AtomicBoolean completed = new AtomicBoolean();
+  @Getter(AccessLevel.NONE)
+  private final AtomicBoolean givenUp = new AtomicBoolean();
+
+  public AnonymousGame(Long id, Long puzzleId, Difficulty difficulty, String solution, Instant createdAt) {
+    this.id = id;
+    this.puzzleId = puzzleId;
+    this.difficulty = difficulty;
+    this.solution = solution;
+    this.createdAt = createdAt;
+  }
+
+  public int getHintCount() {
+    return hintCount.get();
+  }
+
+  public boolean isCompleted() {
+    return completed.get();
+  }
+
+  public boolean isGivenUp() {
+    return givenUp.get();
+  }
+
+  public boolean tryUseHint(int hintLimit) {
+    int current;
+    do {
+      current = hintCount.get();
+      if (current >= hintLimit) {
+        return false;
+      }
+    } while (!hintCount.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  public synchronized boolean markCompleted() {
+    return !givenUp.get() && completed.compareAndSet(false, true);
+  }
+
+  public synchronized boolean markGivenUp() {
+    return !completed.get() && givenUp.compareAndSet(false, true);
+  }
+}
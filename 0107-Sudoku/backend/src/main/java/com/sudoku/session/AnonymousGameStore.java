@@ -0,0 +1,74 @@
+package com.sudoku.session;
+
+import com.sudoku.domain.Puzzle;
+import com.sudoku.exception.GameNotFoundException;
+import com.sudoku.security.GameTokenSigner;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AnonymousGameStore {
+
+  private final ExpiringCache<Long, AnonymousGame> games;
+  private final GameTokenSigner gameTokenSigner;
+  private final Clock clock = Clock.systemUTC();
+  private final AtomicLong idSequence = new AtomicLong();
+
+  public AnonymousGameStore(
+      GameTokenSigner gameTokenSigner,
+      @Value("${game.anonymous.ttl:2h}") Duration ttl,
+      @Value("${game.anonymous.max-size:100000}") int maxSize) {
+    this.gameTokenSigner = gameTokenSigner;
+    this.games = new ExpiringCache<>(ttl, maxSize, clock);
+  }
+
+  public static boolean isAnonymousGameId(Long gameId) {
+    return gameId != null && gameId < 0;
+  }
+
+  public AnonymousGame create(Puzzle puzzle) {
+    AnonymousGame game = new AnonymousGame(
+        idSequence.decrementAndGet(),
+        puzzle.getId(),
+        puzzle.getDifficulty(),
+        puzzle.getSolution(),
+        Instant.now(clock));
+    games.put(game.getId(), game);
+    return game;
+  }
+
+  public String issueToken(AnonymousGame game) {
+    return gameTokenSigner.sign(game.getId(), game.getCreatedAt().toEpochMilli());
+  }
+
+  public AnonymousGame find(Long gameId, String gameToken) {
+    AnonymousGame game = games.get(gameId);
+    if (game == null
+        || !gameTokenSigner.verify(gameId, game.getCreatedAt().toEpochMilli(), gameToken)) {
+      throw new GameNotFoundException("Game not found with id: " + gameId);
+    }
+    return game;
+  }
+
+  @Scheduled(fixedDelayString = "${game.anonymous.sweep-interval-ms:60000}")
+  public void evictExpired() {
+    games.evictExpired();
+  }
+
+  public int size() {
+    return games.size();
+  }
+
+  public long getExpiredEvictions() {
+    return games.getExpiredEvictions();
+  }
+
+  public long getCapacityEvictions() {
+    return games.getCapacityEvictions();
+  }
+}
@@ -0,0 +1,132 @@
+package com.sudoku.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+public class ExpiringCache<K, V> {
+
+  private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final Queue<Node<K>> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicLong generations = new AtomicLong();
+  private final long ttlMillis;
+  private final int maxSize;
+  private final Clock clock;
+  private final LongAdder expiredEvictions = new LongAdder();
+  private final LongAdder capacityEvictions = new LongAdder();
+
+  public ExpiringCache(Duration ttl, int maxSize, Clock clock) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+    }
+    this.ttlMillis = ttl.toMillis();
+    this.maxSize = maxSize;
+    this.clock = clock;
+  }
+
+  public void put(K key, V value) {
+    evictExpired();
+    while (entries.size() >= maxSize && !entries.containsKey(key) && evictOldest()) {
+      capacityEvictions.increment();
+    }
+    long generation = generations.incrementAndGet();
+    entries.put(key, new Entry<>(value, clock.millis() + ttlMillis, generation));
+    insertionOrder.add(new Node<>(key, generation));
+  }
+
+  public V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(clock.millis())) {
+      if (entries.remove(key, entry)) {
+        expiredEvictions.increment();
+      }
+      return null;
+    }
+    return entry.value;
+  }
+
+  public V replace(K key, UnaryOperator<V> updater) {
+    Entry<V> updated = entries.computeIfPresent(key,
+        (k, entry) -> new Entry<>(updater.apply(entry.value), entry.expiresAt, entry.generation));
+    return updated != null ? updated.value : null;
+  }
+
+  public void remove(K key) {
+    entries.remove(key);
+  }
+
+  public void evictExpired() {
+    long now = clock.millis();
+    Node<K> node;
+    while ((node = insertionOrder.peek()) != null) {
+      Entry<V> entry = entries.get(node.key);
+      boolean live = entry != null && entry.generation == node.generation;
+      if (live && !entry.isExpired(now)) {
+        return;
+      }
+      if (insertionOrder.remove(node) && live && entries.remove(node.key, entry)) {
+        expiredEvictions.increment();
+      }
+    }
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public long getExpiredEvictions() {
+    return expiredEvictions.sum();
+  }
+
+  public long getCapacityEvictions() {
+    return capacityEvictions.sum();
+  }
+
+  private boolean evictOldest() {
+    Node<K> node;
+    while ((node = insertionOrder.poll()) != null) {
+      Entry<V> entry = entries.get(node.key);
+      if (entry != null && entry.generation == node.generation && entries.remove(node.key, entry)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static final class Node<K> {
+
+    private final K key;
+    private final long generation;
+
+    private Node(K key, long generation) {
+      this.key = key;
+      this.generation = generation;
+    }
+  }
+
+  private static final class Entry<V> {
+
+    private final V value;
+    private final long expiresAt;
+    private final long generation;
+
+    private Entry(V value, long expiresAt, long generation) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+      this.generation = generation;
+    }
+
+    private boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.sudoku.session;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.GameRecord;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class GameSession {
+
+  private final Long gameId;
+  private final Long puzzleId;
+  private final Long userId;
+  private final Difficulty difficulty;
+  private final String solution;
+  private final int hintCount;
+  private final boolean completed;
+  private final boolean givenUp;
+
+  public static GameSession from(GameRecord gameRecord) {
+    return GameSession.builder()
+        .gameId(gameRecord.getId())
+        .puzzleId(gameRecord.getPuzzle().getId())
+        .userId(gameRecord.getUser() != null ? gameRecord.getUser().getId() : null)
+        .difficulty(gameRecord.getPuzzle().getDifficulty())
+        .solution(gameRecord.getPuzzle().getSolution())
+        .hintCount(gameRecord.getHintCount())
+        .completed(gameRecord.getIsCompleted())
+        .givenUp(Boolean.TRUE.equals(gameRecord.getIsGivenUp()))
+        .build();
+  }
+
+  public GameSession withHintUsed() {
+    return toBuilder().hintCount(hintCount + 1).build();
+  }
+
+  public GameSession withCompleted() {
+    return toBuilder().completed(true).build();
+  }
+
+  public GameSession withGivenUp() {
+    return toBuilder().givenUp(true).build();
+  }
+}
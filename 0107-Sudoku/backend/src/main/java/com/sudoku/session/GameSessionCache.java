@@ -0,0 +1,63 @@
+package com.sudoku.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GameSessionCache {
+
+  private final ExpiringCache<Long, GameSession> sessions;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public GameSessionCache(
+      @Value("${game.session-cache.ttl:2h}") Duration ttl,
+      @Value("${game.session-cache.max-size:100000}") int maxSize) {
+    this.sessions = new ExpiringCache<>(ttl, maxSize, Clock.systemUTC());
+  }
+
+  public GameSession get(Long gameId) {
+    GameSession session = sessions.get(gameId);
+    if (session == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return session;
+  }
+
+  public void put(GameSession session) {
+    sessions.put(session.getGameId(), session);
+  }
+
+  public void update(GameSession session) {
+    if (sessions.replace(session.getGameId(), cached -> session) == null) {
+      put(session);
+    }
+  }
+
+  public void evict(Long gameId) {
+    sessions.remove(gameId);
+  }
+
+  @Scheduled(fixedDelayString = "${game.session-cache.sweep-interval-ms:60000}")
+  public void evictExpired() {
+    sessions.evictExpired();
+  }
+
+  public int size() {
+    return sessions.size();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+}
@@ -0,0 +1,195 @@
+package com.sudoku.solver;
+
+import com.sudoku.validator.SudokuBoardValidator;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+public class BatchPuzzleProcessor {
+  private static final int CELLS = 81;
+
+  private final int parallelism;
+  private final int chunkSize;
+  private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+  public BatchPuzzleProcessor() {
+    this(Runtime.getRuntime().availableProcessors(), 1024);
+  }
+
+  public BatchPuzzleProcessor(int parallelism, int chunkSize) {
+    if (parallelism <= 0 || chunkSize <= 0) {
+      throw new IllegalArgumentException("parallelism and chunkSize must be positive");
+    }
+    this.parallelism = parallelism;
+    this.chunkSize = chunkSize;
+  }
+
+  public BatchSummary process(Iterator<String> lines, Consumer<PuzzleGrade> sink) {
+    BatchSummary summary = new BatchSummary();
+    Deque<Future<List<PuzzleGrade>>> inFlight = new ArrayDeque<>();
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    long start = System.nanoTime();
+    long lineNumber = 0;
+
+    try {
+      while (lines.hasNext()) {
+        List<String> chunk = new ArrayList<>(chunkSize);
+        while (chunk.size() < chunkSize && lines.hasNext()) {
+          chunk.add(lines.next());
+        }
+        long firstLineNumber = lineNumber + 1;
+        lineNumber += chunk.size();
+        inFlight.add(executor.submit(() -> gradeChunk(firstLineNumber, chunk)));
+
+        if (inFlight.size() >= parallelism * 2) {
+          drain(inFlight.poll(), sink, summary);
+        }
+      }
+      while (!inFlight.isEmpty()) {
+        drain(inFlight.poll(), sink, summary);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    summary.setElapsedNanos(System.nanoTime() - start);
+    return summary;
+  }
+
+  public BatchSummary process(Path input, Path output) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII);
+        BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.US_ASCII)) {
+      writer.write("line,status,puzzle,solution,difficulty");
+      writer.newLine();
+      return process(reader.lines().iterator(), grade -> writeGrade(writer, grade));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  public PuzzleGrade grade(long lineNumber, String line) {
+    return workers.get().grade(lineNumber, line);
+  }
+
+  private List<PuzzleGrade> gradeChunk(long firstLineNumber, List<String> chunk) {
+    Worker worker = workers.get();
+    List<PuzzleGrade> grades = new ArrayList<>(chunk.size());
+    for (int i = 0; i < chunk.size(); i++) {
+      grades.add(worker.grade(firstLineNumber + i, chunk.get(i)));
+    }
+    return grades;
+  }
+
+  private static void drain(Future<List<PuzzleGrade>> future, Consumer<PuzzleGrade> sink, BatchSummary summary) {
+    List<PuzzleGrade> grades;
+    try {
+      grades = future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while grading puzzles", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to grade puzzles", e.getCause());
+    }
+    for (PuzzleGrade grade : grades) {
+      summary.add(grade);
+      sink.accept(grade);
+    }
+  }
+
+  private static void writeGrade(BufferedWriter writer, PuzzleGrade grade) {
+    try {
+      writer.write(Long.toString(grade.getLineNumber()));
+      writer.write(',');
+      writer.write(grade.getStatus().name());
+      writer.write(',');
+      writer.write(grade.getPuzzle());
+      writer.write(',');
+      if (grade.isGraded()) {
+        writer.write(grade.getSolution());
+        writer.write(',');
+        writer.write(grade.getDifficulty());
+      } else {
+        writer.write(',');
+      }
+      writer.newLine();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static final class Worker {
+
+    private final int[] board = new int[CELLS];
+    private final int[] solution = new int[CELLS];
+    private final char[] text = new char[CELLS];
+
+    private PuzzleGrade grade(long lineNumber, String line) {
+      String puzzle = line.trim();
+      if (!parse(puzzle)) {
+        return PuzzleGrade.rejected(lineNumber, sanitize(puzzle), PuzzleGrade.Status.INVALID_FORMAT);
+      }
+      String normalized = new String(text);
+
+      if (!SudokuBoardValidator.isValidBoard(board)) {
+        return PuzzleGrade.rejected(lineNumber, normalized, PuzzleGrade.Status.INVALID_BOARD);
+      }
+
+      System.arraycopy(board, 0, solution, 0, CELLS);
+      SearchResult solved = SudokuSolver.solve(solution);
+      if (solved.isAborted()) {
+        return PuzzleGrade.rejected(lineNumber, normalized, PuzzleGrade.Status.SEARCH_LIMIT_EXCEEDED);
+      }
+      if (!solved.isSolved()) {
+        return PuzzleGrade.rejected(lineNumber, normalized, PuzzleGrade.Status.NO_SOLUTION);
+      }
+      SearchResult uniqueness = SudokuSolver.checkUniqueness(board);
+      if (uniqueness.isAborted()) {
+        return PuzzleGrade.rejected(lineNumber, normalized, PuzzleGrade.Status.SEARCH_LIMIT_EXCEEDED);
+      }
+      if (!uniqueness.isUnique()) {
+        return PuzzleGrade.rejected(lineNumber, normalized, PuzzleGrade.Status.MULTIPLE_SOLUTIONS);
+      }
+
+      for (int i = 0; i < CELLS; i++) {
+        text[i] = (char) ('0' + solution[i]);
+      }
+      return PuzzleGrade.graded(lineNumber, normalized, new String(text), SudokuSolver.getDifficulty(board));
+    }
+
+    private boolean parse(String puzzle) {
+      if (puzzle.length() != CELLS) {
+        return false;
+      }
+      for (int i = 0; i < CELLS; i++) {
+        char c = puzzle.charAt(i);
+        if (c == '.') {
+          c = '0';
+        }
+        if (c < '0' || c > '9') {
+          return false;
+        }
+        board[i] = c - '0';
+        text[i] = c;
+      }
+      return true;
+    }
+
+    private static String sanitize(String puzzle) {
+      return puzzle.replace(',', ' ');
+    }
+  }
+}
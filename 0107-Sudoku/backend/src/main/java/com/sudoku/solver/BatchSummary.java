@@ -0,0 +1,61 @@
+package com.sudoku.solver;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class BatchSummary {
+
+  private final Map<PuzzleGrade.Status, Long> statusCounts = new EnumMap<>(PuzzleGrade.Status.class);
+  private final Map<String, Long> difficultyCounts = new TreeMap<>();
+  private long elapsedNanos;
+
+  void add(PuzzleGrade grade) {
+    statusCounts.merge(grade.getStatus(), 1L, Long::sum);
+    if (grade.isGraded()) {
+      difficultyCounts.merge(grade.getDifficulty(), 1L, Long::sum);
+    }
+  }
+
+  void setElapsedNanos(long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public long getProcessed() {
+    long processed = 0;
+    for (long count : statusCounts.values()) {
+      processed += count;
+    }
+    return processed;
+  }
+
+  public long getGraded() {
+    return getCount(PuzzleGrade.Status.GRADED);
+  }
+
+  public long getRejected() {
+    return getProcessed() - getGraded();
+  }
+
+  public long getCount(PuzzleGrade.Status status) {
+    return statusCounts.getOrDefault(status, 0L);
+  }
+
+  public Map<String, Long> getDifficultyCounts() {
+    return difficultyCounts;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  public double getPuzzlesPerSecond() {
+    return elapsedNanos == 0 ? 0 : getProcessed() / (elapsedNanos / 1_000_000_000.0);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("processed=%d graded=%d rejected=%d %s %s %.0f puzzles/s",
+        getProcessed(), getGraded(), getRejected(), statusCounts, difficultyCounts, getPuzzlesPerSecond());
+  }
+}
@@ -0,0 +1,394 @@
+package com.sudoku.solver;
+
+final class BitboardSolver {
+  private static final int BOARD_SIZE = 9;
+  private static final int CELLS = BOARD_SIZE * BOARD_SIZE;
+  private static final int ALL_DIGITS = 0x3FE;
+
+  private static final int[][] UNIT_CELLS = new int[BOARD_SIZE * 3][BOARD_SIZE];
+  private static final long[] UNIT_LO = new long[BOARD_SIZE * 3];
+  private static final long[] UNIT_HI = new long[BOARD_SIZE * 3];
+  private static final long[] HOUSE_LO = new long[CELLS];
+  private static final long[] HOUSE_HI = new long[CELLS];
+  private static final int[] ROW_OF = new int[CELLS];
+  private static final int[] COL_OF = new int[CELLS];
+  private static final int[] BOX_OF = new int[CELLS];
+
+  static {
+    for (int i = 0; i < CELLS; i++) {
+      int row = i / BOARD_SIZE;
+      int col = i % BOARD_SIZE;
+      int box = (row / 3) * 3 + col / 3;
+      ROW_OF[i] = row;
+      COL_OF[i] = col;
+      BOX_OF[i] = box;
+      UNIT_CELLS[row][col] = i;
+      UNIT_CELLS[BOARD_SIZE + col][row] = i;
+      UNIT_CELLS[2 * BOARD_SIZE + box][(row % 3) * 3 + col % 3] = i;
+    }
+    for (int unit = 0; unit < UNIT_CELLS.length; unit++) {
+      for (int i : UNIT_CELLS[unit]) {
+        if (i < 64) {
+          UNIT_LO[unit] |= 1L << i;
+        } else {
+          UNIT_HI[unit] |= 1L << (i - 64);
+        }
+      }
+    }
+    for (int i = 0; i < CELLS; i++) {
+      int row = ROW_OF[i];
+      int col = BOARD_SIZE + COL_OF[i];
+      int box = 2 * BOARD_SIZE + BOX_OF[i];
+      HOUSE_LO[i] = UNIT_LO[row] | UNIT_LO[col] | UNIT_LO[box];
+      HOUSE_HI[i] = UNIT_HI[row] | UNIT_HI[col] | UNIT_HI[box];
+    }
+  }
+
+  private BitboardSolver() {}
+
+  static boolean solveNakedSingle(int[] board) {
+    Bitboard bits = new Bitboard(board);
+    boolean madeProgress = false;
+
+    for (int i = 0; i < CELLS; i++) {
+      if (board[i] == 0) {
+        int candidates = bits.candidates(i);
+        if (Integer.bitCount(candidates) == 1) {
+          int num = Integer.numberOfTrailingZeros(candidates);
+          board[i] = num;
+          bits.place(i, num);
+          madeProgress = true;
+        }
+      }
+    }
+
+    return madeProgress;
+  }
+
+  static boolean solveHiddenSingle(int[] board) {
+    Bitboard bits = new Bitboard(board);
+
+    for (int num = 1; num <= BOARD_SIZE; num++) {
+      long allowedLo = bits.allowedLo(num);
+      long allowedHi = bits.allowedHi(num);
+
+      for (int i = 0; i < BOARD_SIZE; i++) {
+        for (int unit = i; unit < UNIT_CELLS.length; unit += BOARD_SIZE) {
+          long lo = allowedLo & UNIT_LO[unit];
+          long hi = allowedHi & UNIT_HI[unit];
+          if (Long.bitCount(lo) + Long.bitCount(hi) == 1) {
+            board[firstIndex(lo, hi)] = num;
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
+  static boolean solveNakedPair(int[] board) {
+    Bitboard bits = new Bitboard(board);
+    int[] indices = new int[BOARD_SIZE];
+    int[] candidates = new int[BOARD_SIZE];
+
+    for (int i = 0; i < BOARD_SIZE; i++) {
+      for (int unit = i; unit < UNIT_CELLS.length; unit += BOARD_SIZE) {
+        int emptyCount = 0;
+        for (int index : UNIT_CELLS[unit]) {
+          if (board[index] == 0) {
+            indices[emptyCount] = index;
+            candidates[emptyCount] = bits.candidates(index);
+            emptyCount++;
+          }
+        }
+        if (applyNakedPair(board, indices, candidates, emptyCount)) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean applyNakedPair(int[] board, int[] indices, int[] candidates, int count) {
+    for (int i = 0; i < count; i++) {
+      if (Integer.bitCount(candidates[i]) != 2) continue;
+
+      for (int j = i + 1; j < count; j++) {
+        if (candidates[i] != candidates[j]) continue;
+
+        int pairMask = candidates[i];
+        for (int k = 0; k < count; k++) {
+          if (k == i || k == j) continue;
+
+          if ((candidates[k] & pairMask) != 0 && Integer.bitCount(candidates[k] & ~pairMask) == 1) {
+            board[indices[k]] = Integer.numberOfTrailingZeros(candidates[k] & ~pairMask);
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  static boolean solvePointing(int[] board) {
+    Bitboard bits = new Bitboard(board);
+    long[] allowedLo = new long[BOARD_SIZE + 1];
+    long[] allowedHi = new long[BOARD_SIZE + 1];
+    for (int num = 1; num <= BOARD_SIZE; num++) {
+      allowedLo[num] = bits.allowedLo(num);
+      allowedHi[num] = bits.allowedHi(num);
+    }
+
+    for (int box = 0; box < BOARD_SIZE; box++) {
+      int boxUnit = 2 * BOARD_SIZE + box;
+      for (int num = 1; num <= BOARD_SIZE; num++) {
+        long lo = allowedLo[num] & UNIT_LO[boxUnit];
+        long hi = allowedHi[num] & UNIT_HI[boxUnit];
+        if ((lo | hi) == 0) {
+          continue;
+        }
+        int first = firstIndex(lo, hi);
+
+        int row = ROW_OF[first];
+        if ((lo & ~UNIT_LO[row]) == 0 && (hi & ~UNIT_HI[row]) == 0
+            && applyPointing(board, bits, allowedLo[num], allowedHi[num], row, boxUnit, num)) {
+          return true;
+        }
+
+        int col = BOARD_SIZE + COL_OF[first];
+        if ((lo & ~UNIT_LO[col]) == 0 && (hi & ~UNIT_HI[col]) == 0
+            && applyPointing(board, bits, allowedLo[num], allowedHi[num], col, boxUnit, num)) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean applyPointing(
+      int[] board, Bitboard bits, long allowedLo, long allowedHi, int line, int boxUnit, int num) {
+    long lo = allowedLo & UNIT_LO[line] & ~UNIT_LO[boxUnit];
+    long hi = allowedHi & UNIT_HI[line] & ~UNIT_HI[boxUnit];
+
+    for (int index : UNIT_CELLS[line]) {
+      if (!contains(lo, hi, index)) {
+        continue;
+      }
+      int candidatesAfterElimination = bits.candidates(index) & ~(1 << num);
+      if (Integer.bitCount(candidatesAfterElimination) == 1) {
+        board[index] = Integer.numberOfTrailingZeros(candidatesAfterElimination);
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  static boolean solve(int[] board, SearchCounter counter) {
+    return solveBacktrackingRecursive(board, new Bitboard(board), counter, 0);
+  }
+
+  private static boolean solveBacktrackingRecursive(int[] board, Bitboard bits, SearchCounter counter, int depth) {
+    if (!counter.enter(depth)) {
+      return false;
+    }
+
+    int emptyIndex = bits.findEmptyCellWithMinCandidates();
+
+    if (emptyIndex == -1) {
+      return true;
+    }
+
+    int candidates = bits.candidates(emptyIndex);
+
+    while (candidates != 0) {
+      int num = Integer.numberOfTrailingZeros(candidates);
+      candidates &= candidates - 1;
+
+      board[emptyIndex] = num;
+      bits.place(emptyIndex, num);
+
+      if (solveBacktrackingRecursive(board, bits, counter, depth + 1)) {
+        return true;
+      }
+
+      bits.remove(emptyIndex, num);
+      board[emptyIndex] = 0;
+      if (counter.isAborted()) {
+        return false;
+      }
+      counter.backtrack();
+    }
+
+    return false;
+  }
+
+  static int countSolutions(int[] board, int maxCount, SearchCounter counter) {
+    int[] count = new int[1];
+    countSolutions(board, new Bitboard(board), count, maxCount, counter, 0);
+    return count[0];
+  }
+
+  private static void countSolutions(
+      int[] board, Bitboard bits, int[] count, int maxCount, SearchCounter counter, int depth) {
+    if (count[0] >= maxCount || !counter.enter(depth)) {
+      return;
+    }
+
+    int emptyIndex = bits.findEmptyCellWithMinCandidates();
+
+    if (emptyIndex == -1) {
+      count[0]++;
+      return;
+    }
+
+    int candidates = bits.candidates(emptyIndex);
+
+    while (candidates != 0 && count[0] < maxCount && !counter.isAborted()) {
+      int num = Integer.numberOfTrailingZeros(candidates);
+      candidates &= candidates - 1;
+
+      board[emptyIndex] = num;
+      bits.place(emptyIndex, num);
+
+      countSolutions(board, bits, count, maxCount, counter, depth + 1);
+
+      bits.remove(emptyIndex, num);
+      board[emptyIndex] = 0;
+      counter.backtrack();
+    }
+  }
+
+  private static int firstIndex(long lo, long hi) {
+    return lo != 0 ? Long.numberOfTrailingZeros(lo) : 64 + Long.numberOfTrailingZeros(hi);
+  }
+
+  private static boolean contains(long lo, long hi, int index) {
+    return index < 64 ? (lo & (1L << index)) != 0 : (hi & (1L << (index - 64))) != 0;
+  }
+
+  private static final class Bitboard {
+
+    private final long[] digitLo = new long[BOARD_SIZE + 1];
+    private final long[] digitHi = new long[BOARD_SIZE + 1];
+    private final int[] rowUsed = new int[BOARD_SIZE];
+    private final int[] colUsed = new int[BOARD_SIZE];
+    private final int[] boxUsed = new int[BOARD_SIZE];
+    private long emptyLo;
+    private long emptyHi;
+
+    private Bitboard(int[] board) {
+      for (int i = 0; i < CELLS; i++) {
+        int value = board[i];
+        if (value == 0) {
+          setEmpty(i, true);
+        } else if (value > 0 && value <= BOARD_SIZE) {
+          place(i, value);
+        }
+      }
+    }
+
+    private int candidates(int index) {
+      return ~(rowUsed[ROW_OF[index]] | colUsed[COL_OF[index]] | boxUsed[BOX_OF[index]]) & ALL_DIGITS;
+    }
+
+    private long allowedLo(int num) {
+      long attacked = 0;
+      long placedLo = digitLo[num];
+      while (placedLo != 0) {
+        attacked |= HOUSE_LO[Long.numberOfTrailingZeros(placedLo)];
+        placedLo &= placedLo - 1;
+      }
+      long placedHi = digitHi[num];
+      while (placedHi != 0) {
+        attacked |= HOUSE_LO[64 + Long.numberOfTrailingZeros(placedHi)];
+        placedHi &= placedHi - 1;
+      }
+      return emptyLo & ~attacked;
+    }
+
+    private long allowedHi(int num) {
+      long attacked = 0;
+      long placedLo = digitLo[num];
+      while (placedLo != 0) {
+        attacked |= HOUSE_HI[Long.numberOfTrailingZeros(placedLo)];
+        placedLo &= placedLo - 1;
+      }
+      long placedHi = digitHi[num];
+      while (placedHi != 0) {
+        attacked |= HOUSE_HI[64 + Long.numberOfTrailingZeros(placedHi)];
+        placedHi &= placedHi - 1;
+      }
+      return emptyHi & ~attacked;
+    }
+
+    private int findEmptyCellWithMinCandidates() {
+      int minCandidates = BOARD_SIZE + 1;
+      int minIndex = -1;
+
+      long lo = emptyLo;
+      long hi = emptyHi;
+      while ((lo | hi) != 0) {
+        int index;
+        if (lo != 0) {
+          index = Long.numberOfTrailingZeros(lo);
+          lo &= lo - 1;
+        } else {
+          index = 64 + Long.numberOfTrailingZeros(hi);
+          hi &= hi - 1;
+        }
+
+        int candidateCount = Integer.bitCount(candidates(index));
+        if (candidateCount == 0) {
+          return index;
+        }
+        if (candidateCount < minCandidates) {
+          minCandidates = candidateCount;
+          minIndex = index;
+          if (minCandidates == 1) {
+            return minIndex;
+          }
+        }
+      }
+
+      return minIndex;
+    }
+
+    private void place(int index, int num) {
+      int bit = 1 << num;
+      rowUsed[ROW_OF[index]] |= bit;
+      colUsed[COL_OF[index]] |= bit;
+      boxUsed[BOX_OF[index]] |= bit;
+      if (index < 64) {
+        digitLo[num] |= 1L << index;
+      } else {
+        digitHi[num] |= 1L << (index - 64);
+      }
+      setEmpty(index, false);
+    }
+
+    private void remove(int index, int num) {
+      int bit = ~(1 << num);
+      rowUsed[ROW_OF[index]] &= bit;
+      colUsed[COL_OF[index]] &= bit;
+      boxUsed[BOX_OF[index]] &= bit;
+      if (index < 64) {
+        digitLo[num] &= ~(1L << index);
+      } else {
+        digitHi[num] &= ~(1L << (index - 64));
+      }
+      setEmpty(index, true);
+    }
+
+    private void setEmpty(int index, boolean empty) {
+      if (index < 64) {
+        emptyLo = empty ? emptyLo | (1L << index) : emptyLo & ~(1L << index);
+      } else {
+        emptyHi = empty ? emptyHi | (1L << (index - 64)) : emptyHi & ~(1L << (index - 64));
+      }
+    }
+  }
+}
@@ -0,0 +1,285 @@
+package com.sudoku.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+public final class ConstraintGraph {
+
+  private final int size;
+  private final int cells;
+  private final long allDigits;
+  private final int[][] units;
+  private final int[][] peers;
+  private final Cage[] cages;
+
+  private ConstraintGraph(int size, int[][] units, Cage[] cages) {
+    this.size = size;
+    this.cells = size * size;
+    this.allDigits = ((1L << size) - 1) << 1;
+    this.units = units;
+    this.cages = cages;
+    this.peers = buildPeers();
+  }
+
+  public static ConstraintGraph classic(GridGeometry geometry) {
+    return builder(geometry.getSize()).rows().columns().boxes(geometry).build();
+  }
+
+  public static ConstraintGraph diagonal(GridGeometry geometry) {
+    return builder(geometry.getSize()).rows().columns().boxes(geometry).diagonals().build();
+  }
+
+  public static ConstraintGraph jigsaw(int size, int[] regions) {
+    return builder(size).rows().columns().regions(regions).build();
+  }
+
+  public static ConstraintGraph killer(GridGeometry geometry, List<Cage> cages) {
+    Builder builder = builder(geometry.getSize()).rows().columns().boxes(geometry);
+    for (Cage cage : cages) {
+      builder.cage(cage.getSum(), cage.getCells());
+    }
+    return builder.build();
+  }
+
+  public static Builder builder(int size) {
+    return new Builder(size);
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public int getCells() {
+    return cells;
+  }
+
+  public int[][] getUnits() {
+    int[][] copy = new int[units.length][];
+    for (int i = 0; i < units.length; i++) {
+      copy[i] = units[i].clone();
+    }
+    return copy;
+  }
+
+  public List<Cage> getCages() {
+    return List.of(cages);
+  }
+
+  public int getGroupCount() {
+    return units.length + cages.length;
+  }
+
+  public int getGroupLength(int group) {
+    return group < units.length ? units[group].length : cages[group - units.length].cells.length;
+  }
+
+  public int getGroupCell(int group, int position) {
+    return group < units.length ? units[group][position] : cages[group - units.length].cells[position];
+  }
+
+  public int getCageCount() {
+    return cages.length;
+  }
+
+  public Cage getCage(int index) {
+    return cages[index];
+  }
+
+  long allDigits() {
+    return allDigits;
+  }
+
+  int[][] units() {
+    return units;
+  }
+
+  int[] peersOf(int index) {
+    return peers[index];
+  }
+
+  Cage[] cages() {
+    return cages;
+  }
+
+  private int[][] buildPeers() {
+    BitSet[] linked = new BitSet[cells];
+    for (int i = 0; i < cells; i++) {
+      linked[i] = new BitSet(cells);
+    }
+    for (int[] unit : units) {
+      link(linked, unit);
+    }
+    for (Cage cage : cages) {
+      link(linked, cage.cells);
+    }
+
+    int[][] result = new int[cells][];
+    for (int i = 0; i < cells; i++) {
+      linked[i].clear(i);
+      result[i] = linked[i].stream().toArray();
+    }
+    return result;
+  }
+
+  private static void link(BitSet[] linked, int[] group) {
+    for (int cell : group) {
+      for (int other : group) {
+        linked[cell].set(other);
+      }
+    }
+  }
+
+  public static final class Cage {
+
+    private final int sum;
+    private final int[] cells;
+
+    public Cage(int sum, int... cells) {
+      this.sum = sum;
+      this.cells = cells.clone();
+    }
+
+    public int getSum() {
+      return sum;
+    }
+
+    public int[] getCells() {
+      return cells.clone();
+    }
+
+    public int getCellCount() {
+      return cells.length;
+    }
+
+    public int getCell(int position) {
+      return cells[position];
+    }
+
+    int[] cells() {
+      return cells;
+    }
+
+    @Override
+    public String toString() {
+      return "Cage{sum=" + sum + ", cells=" + Arrays.toString(cells) + "}";
+    }
+  }
+
+  public static final class Builder {
+
+    private final int size;
+    private final List<int[]> units = new ArrayList<>();
+    private final List<Cage> cages = new ArrayList<>();
+
+    private Builder(int size) {
+      if (size < 1 || size > GridGeometry.MAX_BOX_SIZE * GridGeometry.MAX_BOX_SIZE) {
+        throw new IllegalArgumentException("Unsupported grid size: " + size);
+      }
+      this.size = size;
+    }
+
+    public Builder rows() {
+      for (int row = 0; row < size; row++) {
+        int[] unit = new int[size];
+        for (int col = 0; col < size; col++) {
+          unit[col] = row * size + col;
+        }
+        units.add(unit);
+      }
+      return this;
+    }
+
+    public Builder columns() {
+      for (int col = 0; col < size; col++) {
+        int[] unit = new int[size];
+        for (int row = 0; row < size; row++) {
+          unit[row] = row * size + col;
+        }
+        units.add(unit);
+      }
+      return this;
+    }
+
+    public Builder boxes(GridGeometry geometry) {
+      if (geometry.getSize() != size) {
+        throw new IllegalArgumentException("Geometry " + geometry + " does not match grid size " + size);
+      }
+      int[] regions = new int[size * size];
+      for (int i = 0; i < regions.length; i++) {
+        regions[i] = geometry.box(i);
+      }
+      return regions(regions);
+    }
+
+    public Builder diagonals() {
+      int[] main = new int[size];
+      int[] anti = new int[size];
+      for (int i = 0; i < size; i++) {
+        main[i] = i * size + i;
+        anti[i] = i * size + (size - 1 - i);
+      }
+      units.add(main);
+      units.add(anti);
+      return this;
+    }
+
+    public Builder regions(int[] regions) {
+      if (regions.length != size * size) {
+        throw new IllegalArgumentException("Region map must have " + size * size + " cells: " + regions.length);
+      }
+      int[][] cellsByRegion = new int[size][size];
+      int[] counts = new int[size];
+      for (int i = 0; i < regions.length; i++) {
+        int region = regions[i];
+        if (region < 0 || region >= size || counts[region] == size) {
+          throw new IllegalArgumentException("Region " + region + " at cell " + i
+              + " is out of range or has more than " + size + " cells");
+        }
+        cellsByRegion[region][counts[region]++] = i;
+      }
+      units.addAll(Arrays.asList(cellsByRegion));
+      return this;
+    }
+
+    public Builder unit(int... cells) {
+      if (cells.length != size) {
+        throw new IllegalArgumentException("A unit must have exactly " + size + " cells: " + cells.length);
+      }
+      units.add(checkCells(cells));
+      return this;
+    }
+
+    public Builder cage(int sum, int... cells) {
+      if (cells.length == 0 || cells.length > size) {
+        throw new IllegalArgumentException("A cage must have between 1 and " + size + " cells: " + cells.length);
+      }
+      int minSum = cells.length * (cells.length + 1) / 2;
+      int maxSum = cells.length * (2 * size - cells.length + 1) / 2;
+      if (sum < minSum || sum > maxSum) {
+        throw new IllegalArgumentException("Cage of " + cells.length + " cells cannot sum to " + sum);
+      }
+      cages.add(new Cage(sum, checkCells(cells)));
+      return this;
+    }
+
+    public ConstraintGraph build() {
+      if (units.isEmpty()) {
+        throw new IllegalStateException("A constraint graph needs at least one unit");
+      }
+      return new ConstraintGraph(size, units.toArray(new int[0][]), cages.toArray(new Cage[0]));
+    }
+
+    private int[] checkCells(int[] cells) {
+      BitSet seen = new BitSet(size * size);
+      for (int cell : cells) {
+        if (cell < 0 || cell >= size * size || seen.get(cell)) {
+          throw new IllegalArgumentException("Invalid or repeated cell " + cell);
+        }
+        seen.set(cell);
+      }
+      return cells.clone();
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package com.sudoku.solver;
+
+import java.util.Random;
+
+public final class GridGenerator {
+
+  private static final int FILL_ATTEMPTS = 5;
+  private static final int PUZZLE_ATTEMPTS = 5;
+  private static final int PUZZLE_ATTEMPT_CELLS = 4096;
+  private static final String[] DIFFICULTIES = {"EASY", "MEDIUM", "HARD", "EXPERT"};
+  private static final int FILL_NODES_PER_CELL = 4;
+  private static final int UNIQUENESS_NODES = 256;
+  private static final int RETRY_BUDGET_GROWTH = 4;
+  private static final int RETRY_NODES_MAX = 16_384;
+  private static final int RETRY_NODES_PER_CELL = 64;
+
+  private final GridGeometry geometry;
+  private final ConstraintGraph graph;
+  private final Random random;
+  private final SearchLimits fillLimits;
+
+  public GridGenerator(GridGeometry geometry, Random random) {
+    this(geometry, geometry.getGraph(), random);
+  }
+
+  public GridGenerator(ConstraintGraph graph, Random random) {
+    this(null, graph, random);
+  }
+
+  private GridGenerator(GridGeometry geometry, ConstraintGraph graph, Random random) {
+    this.geometry = geometry;
+    this.graph = graph;
+    this.random = random;
+    this.fillLimits = SearchLimits.of((long) graph.getCells() * FILL_NODES_PER_CELL, null);
+  }
+
+  public ConstraintGraph getGraph() {
+    return graph;
+  }
+
+  public int[] generateCompleteBoard() {
+    for (int attempt = 0; attempt < FILL_ATTEMPTS; attempt++) {
+      int[] board = new int[graph.getCells()];
+      if (GridSolver.solve(board, graph, random, new SearchCounter(fillLimits))) {
+        return board;
+      }
+    }
+    if (geometry != null) {
+      return shuffledPatternBoard();
+    }
+    int[] board = new int[graph.getCells()];
+    if (!GridSolver.solve(board, graph, random, new SearchCounter(SearchLimits.UNLIMITED))) {
+      throw new IllegalStateException("Constraint graph has no complete solution");
+    }
+    return board;
+  }
+
+  public int[] removeCells(int[] board, int cellsToRemove) {
+    if (!GridSolver.hasUniqueSolution(board, graph, SearchLimits.UNLIMITED)) {
+      throw new IllegalArgumentException("Board must have a unique solution");
+    }
+    int[] result = board.clone();
+    int[] indices = new int[result.length];
+    int filled = 0;
+    for (int i = 0; i < result.length; i++) {
+      if (result[i] != 0) {
+        indices[filled++] = i;
+      }
+    }
+    shuffle(indices, filled);
+
+    int removed = 0;
+    long retryNodes = (long) result.length * RETRY_NODES_PER_CELL;
+    for (long nodes = UNIQUENESS_NODES; filled > 0 && removed < cellsToRemove; nodes *= RETRY_BUDGET_GROWTH) {
+      int aborted = 0;
+      for (int i = 0; i < filled && removed < cellsToRemove; i++) {
+        int index = indices[i];
+        int backup = result[index];
+        result[index] = 0;
+
+        boolean retry = nodes > UNIQUENESS_NODES;
+        long budget = retry ? Math.min(nodes, retryNodes) : nodes;
+        SearchResult other = budget > 0
+            ? GridSolver.solveExcluding(result, graph, index, backup, SearchLimits.of(budget, null))
+            : null;
+        if (retry && other != null) {
+          retryNodes -= other.getNodes();
+        }
+        if (other == null || other.isAborted()) {
+          indices[aborted++] = index;
+          result[index] = backup;
+        } else if (other.isSolved()) {
+          result[index] = backup;
+        } else {
+          removed++;
+        }
+      }
+      if (retryNodes <= 0 || nodes >= RETRY_NODES_MAX) {
+        break;
+      }
+      filled = aborted;
+    }
+    return result;
+  }
+
+  public int[] generatePuzzle(String difficulty) {
+    int[] range = removePercentRange(difficulty);
+    if (range == null) {
+      return null;
+    }
+    int cells = graph.getCells();
+    int minRemoved = cells * range[0] / 100;
+    int attempts = Math.max(PUZZLE_ATTEMPTS, PUZZLE_ATTEMPT_CELLS / cells);
+    int bestRemoved = 0;
+    for (int attempt = 0; attempt < attempts; attempt++) {
+      int percent = range[0] + random.nextInt(range[1] - range[0] + 1);
+      int[] puzzle = removeCells(generateCompleteBoard(), cells * percent / 100);
+      int removed = countEmpty(puzzle);
+      if (removed >= minRemoved) {
+        return puzzle;
+      }
+      bestRemoved = Math.max(bestRemoved, removed);
+    }
+    throw new IllegalStateException(String.format(
+        "%s needs %d of %d cells removed but %d attempts removed at most %d (%s)", difficulty, minRemoved, cells,
+        attempts, bestRemoved, difficultyFor(cells, bestRemoved)));
+  }
+
+  public static String difficultyFor(int cells, int removed) {
+    String label = null;
+    for (String difficulty : DIFFICULTIES) {
+      if (removed >= cells * removePercentRange(difficulty)[0] / 100) {
+        label = difficulty;
+      }
+    }
+    return label;
+  }
+
+  static int countEmpty(int[] board) {
+    int empty = 0;
+    for (int cell : board) {
+      if (cell == 0) {
+        empty++;
+      }
+    }
+    return empty;
+  }
+
+  static int[] removePercentRange(String difficulty) {
+    return switch (difficulty) {
+      case "EASY" -> new int[] {43, 55};
+      case "MEDIUM" -> new int[] {55, 64};
+      case "HARD" -> new int[] {64, 72};
+      case "EXPERT" -> new int[] {72, 79};
+      default -> null;
+    };
+  }
+
+  private int[] shuffledPatternBoard() {
+    int size = geometry.getSize();
+    int boxSize = geometry.getBoxSize();
+    int[] digits = permutation(size);
+    int[] rows = bandPermutation();
+    int[] cols = bandPermutation();
+
+    int[] board = new int[geometry.getCells()];
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < size; col++) {
+        int r = rows[row];
+        int c = cols[col];
+        int pattern = (boxSize * (r % boxSize) + r / boxSize + c) % size;
+        board[row * size + col] = digits[pattern] + 1;
+      }
+    }
+    return board;
+  }
+
+  private int[] bandPermutation() {
+    int boxSize = geometry.getBoxSize();
+    int[] bands = permutation(boxSize);
+    int[] lines = new int[geometry.getSize()];
+    for (int band = 0; band < boxSize; band++) {
+      int[] within = permutation(boxSize);
+      for (int i = 0; i < boxSize; i++) {
+        lines[band * boxSize + i] = bands[band] * boxSize + within[i];
+      }
+    }
+    return lines;
+  }
+
+  private int[] permutation(int length) {
+    int[] values = new int[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = i;
+    }
+    shuffle(values, length);
+    return values;
+  }
+
+  private void shuffle(int[] values, int length) {
+    for (int i = length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int tmp = values[i];
+      values[i] = values[j];
+      values[j] = tmp;
+    }
+  }
+}
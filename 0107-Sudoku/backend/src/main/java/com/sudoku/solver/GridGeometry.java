@@ -0,0 +1,74 @@
+package com.sudoku.solver;
+
+public final class GridGeometry {
+
+  public static final int MIN_BOX_SIZE = 2;
+  public static final int MAX_BOX_SIZE = 6;
+
+  private static final GridGeometry[] CACHE = new GridGeometry[MAX_BOX_SIZE + 1];
+
+  private final int boxSize;
+  private final int size;
+  private final int cells;
+  private final ConstraintGraph graph;
+
+  private GridGeometry(int boxSize) {
+    this.boxSize = boxSize;
+    this.size = boxSize * boxSize;
+    this.cells = size * size;
+    this.graph = ConstraintGraph.classic(this);
+  }
+
+  public static synchronized GridGeometry of(int boxSize) {
+    if (boxSize < MIN_BOX_SIZE || boxSize > MAX_BOX_SIZE) {
+      throw new IllegalArgumentException("boxSize must be between " + MIN_BOX_SIZE + " and " + MAX_BOX_SIZE
+          + ": " + boxSize);
+    }
+    if (CACHE[boxSize] == null) {
+      CACHE[boxSize] = new GridGeometry(boxSize);
+    }
+    return CACHE[boxSize];
+  }
+
+  public static GridGeometry forCells(int cellCount) {
+    for (int boxSize = MIN_BOX_SIZE; boxSize <= MAX_BOX_SIZE; boxSize++) {
+      if (boxSize * boxSize * boxSize * boxSize == cellCount) {
+        return of(boxSize);
+      }
+    }
+    throw new IllegalArgumentException("No square grid has " + cellCount + " cells");
+  }
+
+  public int getBoxSize() {
+    return boxSize;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public int getCells() {
+    return cells;
+  }
+
+  public int row(int index) {
+    return index / size;
+  }
+
+  public int col(int index) {
+    return index % size;
+  }
+
+  public int box(int index) {
+    return (row(index) / boxSize) * boxSize + col(index) / boxSize;
+  }
+
+  public ConstraintGraph getGraph() {
+    return graph;
+  }
+
+  @Override
+  public String toString() {
+    return size + "x" + size;
+  }
+}
@@ -0,0 +1,387 @@
+package com.sudoku.solver;
+
+import java.util.Random;
+
+public final class GridSolver {
+
+  private static final int VALUE_SHIFT = 56;
+  private static final long CANDIDATE_BITS = (1L << VALUE_SHIFT) - 1;
+
+  private GridSolver() {}
+
+  public static SearchResult solve(int[] board, GridGeometry geometry) {
+    return solve(board, geometry.getGraph(), SearchLimits.UNLIMITED);
+  }
+
+  public static SearchResult solve(int[] board, GridGeometry geometry, SearchLimits limits) {
+    return solve(board, geometry.getGraph(), limits);
+  }
+
+  public static SearchResult solve(int[] board, ConstraintGraph graph) {
+    return solve(board, graph, SearchLimits.UNLIMITED);
+  }
+
+  public static SearchResult solve(int[] board, ConstraintGraph graph, SearchLimits limits) {
+    SearchCounter counter = new SearchCounter(limits);
+    return counter.result(solve(board, graph, null, counter) ? 1 : 0);
+  }
+
+  public static SearchResult countSolutions(int[] board, GridGeometry geometry, int maxCount, SearchLimits limits) {
+    return countSolutions(board, geometry.getGraph(), maxCount, limits);
+  }
+
+  public static SearchResult countSolutions(int[] board, ConstraintGraph graph, int maxCount, SearchLimits limits) {
+    SearchCounter counter = new SearchCounter(limits);
+    Search search = new Search(graph, null, counter);
+    return counter.result(search.load(board) ? search.count(maxCount, 0) : 0);
+  }
+
+  public static boolean hasUniqueSolution(int[] board, GridGeometry geometry, SearchLimits limits) {
+    return hasUniqueSolution(board, geometry.getGraph(), limits);
+  }
+
+  public static boolean hasUniqueSolution(int[] board, ConstraintGraph graph, SearchLimits limits) {
+    return countSolutions(board, graph, 2, limits).isUnique();
+  }
+
+  static SearchResult solveExcluding(int[] board, ConstraintGraph graph, int index, int value,
+      SearchLimits limits) {
+    SearchCounter counter = new SearchCounter(limits);
+    Search search = new Search(graph, null, counter);
+    boolean solved = search.load(board) && search.exclude(index, value) && search.solve(0);
+    return counter.result(solved ? 1 : 0);
+  }
+
+  static boolean solve(int[] board, ConstraintGraph graph, Random random, SearchCounter counter) {
+    Search search = new Search(graph, random, counter);
+    boolean solved = search.load(board) && search.solve(0);
+    if (solved) {
+      System.arraycopy(search.values, 0, board, 0, board.length);
+    }
+    return solved;
+  }
+
+  private static final class Search {
+
+    private final ConstraintGraph graph;
+    private final int size;
+    private final int cells;
+    private final long allDigits;
+    private final int[][] units;
+    private final ConstraintGraph.Cage[] cages;
+    private final Random random;
+    private final SearchCounter counter;
+    private final int[] values;
+    private final long[] candidates;
+    private final int[] queue;
+    private final int[] trailCell;
+    private final long[] trailState;
+    private int queueSize;
+    private int trailSize;
+
+    private Search(ConstraintGraph graph, Random random, SearchCounter counter) {
+      this.graph = graph;
+      this.size = graph.getSize();
+      this.cells = graph.getCells();
+      this.allDigits = graph.allDigits();
+      this.units = graph.units();
+      this.cages = graph.cages();
+      this.random = random;
+      this.counter = counter;
+      this.values = new int[cells];
+      this.candidates = new long[cells];
+      this.queue = new int[cells];
+      int trailCapacity = cells * (size + 1);
+      this.trailCell = new int[trailCapacity];
+      this.trailState = new long[trailCapacity];
+    }
+
+    private boolean load(int[] board) {
+      if (board.length != cells) {
+        return false;
+      }
+      for (int i = 0; i < cells; i++) {
+        candidates[i] = allDigits;
+      }
+      for (int i = 0; i < cells; i++) {
+        int value = board[i];
+        if (value < 0 || value > size) {
+          return false;
+        }
+        if (value != 0 && !assign(i, value)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean solve(int depth) {
+      if (!counter.enter(depth) || !propagate()) {
+        return false;
+      }
+
+      int index = findUnsolvedCellWithMinCandidates();
+      if (index == -1) {
+        return true;
+      }
+
+      long remaining = candidates[index];
+      int mark = trailSize;
+      while (remaining != 0) {
+        int num = nextDigit(remaining);
+        remaining &= ~(1L << num);
+
+        if (assign(index, num) && solve(depth + 1)) {
+          return true;
+        }
+        undo(mark);
+        if (counter.isAborted()) {
+          return false;
+        }
+        counter.backtrack();
+      }
+      return false;
+    }
+
+    private int count(int maxCount, int depth) {
+      if (!counter.enter(depth) || !propagate()) {
+        return 0;
+      }
+
+      int index = findUnsolvedCellWithMinCandidates();
+      if (index == -1) {
+        return 1;
+      }
+
+      int found = 0;
+      long remaining = candidates[index];
+      int mark = trailSize;
+      while (remaining != 0 && found < maxCount && !counter.isAborted()) {
+        int num = Long.numberOfTrailingZeros(remaining);
+        remaining &= remaining - 1;
+
+        if (assign(index, num)) {
+          found += count(maxCount - found, depth + 1);
+        }
+        undo(mark);
+        counter.backtrack();
+      }
+      return found;
+    }
+
+    private int nextDigit(long remaining) {
+      if (random == null) {
+        return Long.numberOfTrailingZeros(remaining);
+      }
+      for (int skip = random.nextInt(Long.bitCount(remaining)); skip > 0; skip--) {
+        remaining &= remaining - 1;
+      }
+      return Long.numberOfTrailingZeros(remaining);
+    }
+
+    private boolean exclude(int index, int num) {
+      long remaining = candidates[index] & ~(1L << num);
+      if (values[index] != 0 || remaining == 0) {
+        return false;
+      }
+      save(index);
+      candidates[index] = remaining;
+      if ((remaining & (remaining - 1)) == 0) {
+        queue[queueSize++] = index;
+      }
+      return true;
+    }
+
+    private boolean assign(int index, int num) {
+      long bit = 1L << num;
+      if ((candidates[index] & bit) == 0) {
+        return false;
+      }
+      save(index);
+      values[index] = num;
+      candidates[index] = bit;
+
+      for (int peer : graph.peersOf(index)) {
+        long peerCandidates = candidates[peer];
+        if ((peerCandidates & bit) != 0) {
+          if (values[peer] != 0) {
+            return false;
+          }
+          save(peer);
+          peerCandidates &= ~bit;
+          candidates[peer] = peerCandidates;
+          if (peerCandidates == 0) {
+            return false;
+          }
+          if ((peerCandidates & (peerCandidates - 1)) == 0) {
+            queue[queueSize++] = peer;
+          }
+        }
+      }
+      return true;
+    }
+
+    private boolean propagate() {
+      boolean changed = true;
+      while (changed) {
+        while (queueSize > 0) {
+          int index = queue[--queueSize];
+          if (values[index] == 0 && !assign(index, Long.numberOfTrailingZeros(candidates[index]))) {
+            return false;
+          }
+        }
+
+        changed = false;
+        for (int[] unit : units) {
+          long placed = 0;
+          long once = 0;
+          long twice = 0;
+          for (int index : unit) {
+            if (values[index] != 0) {
+              placed |= 1L << values[index];
+            } else {
+              twice |= once & candidates[index];
+              once |= candidates[index];
+            }
+          }
+          if ((once | placed) != allDigits) {
+            return false;
+          }
+
+          long hiddenSingles = once & ~twice & ~placed;
+          while (hiddenSingles != 0) {
+            int num = Long.numberOfTrailingZeros(hiddenSingles);
+            hiddenSingles &= hiddenSingles - 1;
+            for (int index : unit) {
+              if (values[index] == 0 && (candidates[index] & (1L << num)) != 0) {
+                if (!assign(index, num)) {
+                  return false;
+                }
+                changed = true;
+                break;
+              }
+            }
+          }
+        }
+
+        int mark = trailSize;
+        for (ConstraintGraph.Cage cage : cages) {
+          if (!pruneCage(cage)) {
+            return false;
+          }
+        }
+        changed |= queueSize > 0 || trailSize != mark;
+      }
+      return true;
+    }
+
+    private boolean pruneCage(ConstraintGraph.Cage cage) {
+      int remainingSum = cage.getSum();
+      int free = 0;
+      long available = 0;
+      for (int index : cage.cells()) {
+        if (values[index] != 0) {
+          remainingSum -= values[index];
+        } else {
+          free++;
+          available |= candidates[index];
+        }
+      }
+      if (!canReach(available, free, remainingSum)) {
+        return false;
+      }
+      if (free == 0) {
+        return true;
+      }
+
+      for (int index : cage.cells()) {
+        if (values[index] != 0) {
+          continue;
+        }
+        long allowed = 0;
+        long remaining = candidates[index];
+        while (remaining != 0) {
+          int num = Long.numberOfTrailingZeros(remaining);
+          remaining &= remaining - 1;
+          if (canReach(available & ~(1L << num), free - 1, remainingSum - num)) {
+            allowed |= 1L << num;
+          }
+        }
+        if (allowed != candidates[index] && !restrict(index, allowed)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean canReach(long digits, int count, int sum) {
+      if (count == 0) {
+        return sum == 0;
+      }
+      if (Long.bitCount(digits) < count) {
+        return false;
+      }
+      int minSum = 0;
+      long low = digits;
+      for (int i = 0; i < count; i++) {
+        minSum += Long.numberOfTrailingZeros(low);
+        low &= low - 1;
+      }
+      int maxSum = 0;
+      long high = digits;
+      for (int i = 0; i < count; i++) {
+        int num = 63 - Long.numberOfLeadingZeros(high);
+        maxSum += num;
+        high &= ~(1L << num);
+      }
+      return minSum <= sum && sum <= maxSum;
+    }
+
+    private boolean restrict(int index, long allowed) {
+      save(index);
+      candidates[index] = allowed;
+      if (allowed == 0) {
+        return false;
+      }
+      if ((allowed & (allowed - 1)) == 0) {
+        queue[queueSize++] = index;
+      }
+      return true;
+    }
+
+    private int findUnsolvedCellWithMinCandidates() {
+      int minCandidates = size + 1;
+      int minIndex = -1;
+      for (int i = 0; i < cells; i++) {
+        if (values[i] == 0) {
+          int candidateCount = Long.bitCount(candidates[i]);
+          if (candidateCount < minCandidates) {
+            minCandidates = candidateCount;
+            minIndex = i;
+            if (minCandidates == 2) {
+              return minIndex;
+            }
+          }
+        }
+      }
+      return minIndex;
+    }
+
+    private void save(int index) {
+      trailCell[trailSize] = index;
+      trailState[trailSize] = (long) values[index] << VALUE_SHIFT | candidates[index];
+      trailSize++;
+    }
+
+    private void undo(int mark) {
+      while (trailSize > mark) {
+        trailSize--;
+        int index = trailCell[trailSize];
+        long state = trailState[trailSize];
+        values[index] = (int) (state >>> VALUE_SHIFT);
+        candidates[index] = state & CANDIDATE_BITS;
+      }
+      queueSize = 0;
+    }
+  }
+}
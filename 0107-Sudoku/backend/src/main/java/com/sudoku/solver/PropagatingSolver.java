@@ -0,0 +1,249 @@
+package com.sudoku.solver;
+
+final class PropagatingSolver {
+  private static final int BOARD_SIZE = 9;
+  private static final int CELLS = BOARD_SIZE * BOARD_SIZE;
+  private static final int UNITS = BOARD_SIZE * 3;
+  private static final int ALL_DIGITS = 0x3FE;
+  private static final int PEER_COUNT = 20;
+
+  private static final int[][] UNIT_CELLS = new int[UNITS][BOARD_SIZE];
+  private static final int[][] PEERS = new int[CELLS][PEER_COUNT];
+
+  static {
+    for (int i = 0; i < CELLS; i++) {
+      int row = i / BOARD_SIZE;
+      int col = i % BOARD_SIZE;
+      int box = (row / 3) * 3 + col / 3;
+      UNIT_CELLS[row][col] = i;
+      UNIT_CELLS[BOARD_SIZE + col][row] = i;
+      UNIT_CELLS[2 * BOARD_SIZE + box][(row % 3) * 3 + col % 3] = i;
+    }
+    for (int i = 0; i < CELLS; i++) {
+      int row = i / BOARD_SIZE;
+      int col = i % BOARD_SIZE;
+      int count = 0;
+      for (int j = 0; j < CELLS; j++) {
+        int otherRow = j / BOARD_SIZE;
+        int otherCol = j % BOARD_SIZE;
+        boolean sameBox = row / 3 == otherRow / 3 && col / 3 == otherCol / 3;
+        if (j != i && (row == otherRow || col == otherCol || sameBox)) {
+          PEERS[i][count++] = j;
+        }
+      }
+    }
+  }
+
+  private PropagatingSolver() {}
+
+  static boolean solve(int[] board, SearchCounter counter) {
+    Search search = new Search(counter);
+    boolean solved = search.load(board) && search.solve(0);
+    if (solved) {
+      System.arraycopy(search.values, 0, board, 0, CELLS);
+    }
+    return solved;
+  }
+
+  static int countSolutions(int[] board, int maxCount, SearchCounter counter) {
+    Search search = new Search(counter);
+    return search.load(board) ? search.count(maxCount, 0) : 0;
+  }
+
+  private static final class Search {
+
+    private final int[] values = new int[CELLS];
+    private final int[] candidates = new int[CELLS];
+    private final int[] queue = new int[CELLS];
+    private final int[] trailCell = new int[CELLS * (PEER_COUNT + 1)];
+    private final int[] trailState = new int[CELLS * (PEER_COUNT + 1)];
+    private final SearchCounter counter;
+    private int queueSize;
+    private int trailSize;
+
+    private Search(SearchCounter counter) {
+      this.counter = counter;
+    }
+
+    private boolean load(int[] board) {
+      for (int i = 0; i < CELLS; i++) {
+        candidates[i] = ALL_DIGITS;
+      }
+      for (int i = 0; i < CELLS; i++) {
+        int value = board[i];
+        if (value < 0 || value > BOARD_SIZE) {
+          return false;
+        }
+        if (value != 0 && !assign(i, value)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean solve(int depth) {
+      if (!counter.enter(depth) || !propagate()) {
+        return false;
+      }
+
+      int index = findUnsolvedCellWithMinCandidates();
+      if (index == -1) {
+        return true;
+      }
+
+      int remaining = candidates[index];
+      int mark = trailSize;
+      while (remaining != 0) {
+        int num = Integer.numberOfTrailingZeros(remaining);
+        remaining &= remaining - 1;
+
+        if (assign(index, num) && solve(depth + 1)) {
+          return true;
+        }
+        undo(mark);
+        if (counter.isAborted()) {
+          return false;
+        }
+        counter.backtrack();
+      }
+      return false;
+    }
+
+    private int count(int maxCount, int depth) {
+      if (!counter.enter(depth) || !propagate()) {
+        return 0;
+      }
+
+      int index = findUnsolvedCellWithMinCandidates();
+      if (index == -1) {
+        return 1;
+      }
+
+      int found = 0;
+      int remaining = candidates[index];
+      int mark = trailSize;
+      while (remaining != 0 && found < maxCount && !counter.isAborted()) {
+        int num = Integer.numberOfTrailingZeros(remaining);
+        remaining &= remaining - 1;
+
+        if (assign(index, num)) {
+          found += count(maxCount - found, depth + 1);
+        }
+        undo(mark);
+        counter.backtrack();
+      }
+      return found;
+    }
+
+    private boolean assign(int index, int num) {
+      int bit = 1 << num;
+      if ((candidates[index] & bit) == 0) {
+        return false;
+      }
+      save(index);
+      values[index] = num;
+      candidates[index] = bit;
+
+      for (int peer : PEERS[index]) {
+        int peerCandidates = candidates[peer];
+        if ((peerCandidates & bit) != 0) {
+          if (values[peer] != 0) {
+            return false;
+          }
+          save(peer);
+          peerCandidates &= ~bit;
+          candidates[peer] = peerCandidates;
+          if (peerCandidates == 0) {
+            return false;
+          }
+          if ((peerCandidates & (peerCandidates - 1)) == 0) {
+            queue[queueSize++] = peer;
+          }
+        }
+      }
+      return true;
+    }
+
+    private boolean propagate() {
+      boolean changed = true;
+      while (changed) {
+        while (queueSize > 0) {
+          int index = queue[--queueSize];
+          if (values[index] == 0 && !assign(index, Integer.numberOfTrailingZeros(candidates[index]))) {
+            return false;
+          }
+        }
+
+        changed = false;
+        for (int[] unit : UNIT_CELLS) {
+          int placed = 0;
+          int once = 0;
+          int twice = 0;
+          for (int index : unit) {
+            if (values[index] != 0) {
+              placed |= 1 << values[index];
+            } else {
+              twice |= once & candidates[index];
+              once |= candidates[index];
+            }
+          }
+          if ((once | placed) != ALL_DIGITS) {
+            return false;
+          }
+
+          int hiddenSingles = once & ~twice & ~placed;
+          while (hiddenSingles != 0) {
+            int num = Integer.numberOfTrailingZeros(hiddenSingles);
+            hiddenSingles &= hiddenSingles - 1;
+            for (int index : unit) {
+              if (values[index] == 0 && (candidates[index] & (1 << num)) != 0) {
+                if (!assign(index, num)) {
+                  return false;
+                }
+                changed = true;
+                break;
+              }
+            }
+          }
+        }
+        changed |= queueSize > 0;
+      }
+      return true;
+    }
+
+    private int findUnsolvedCellWithMinCandidates() {
+      int minCandidates = BOARD_SIZE + 1;
+      int minIndex = -1;
+      for (int i = 0; i < CELLS; i++) {
+        if (values[i] == 0) {
+          int candidateCount = Integer.bitCount(candidates[i]);
+          if (candidateCount < minCandidates) {
+            minCandidates = candidateCount;
+            minIndex = i;
+            if (minCandidates == 2) {
+              return minIndex;
+            }
+          }
+        }
+      }
+      return minIndex;
+    }
+
+    private void save(int index) {
+      trailCell[trailSize] = index;
+      trailState[trailSize] = values[index] << 16 | candidates[index];
+      trailSize++;
+    }
+
+    private void undo(int mark) {
+      while (trailSize > mark) {
+        trailSize--;
+        int index = trailCell[trailSize];
+        int state = trailState[trailSize];
+        values[index] = state >>> 16;
+        candidates[index] = state & 0xFFFF;
+      }
+      queueSize = 0;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.sudoku.solver;
+
+public final class PuzzleGrade {
+
+  public enum Status {
+    GRADED,
+    INVALID_FORMAT,
+    INVALID_BOARD,
+    NO_SOLUTION,
+    MULTIPLE_SOLUTIONS,
+    SEARCH_LIMIT_EXCEEDED
+  }
+
+  private final long lineNumber;
+  private final String puzzle;
+  private final String solution;
+  private final String difficulty;
+  private final Status status;
+
+  private PuzzleGrade(long lineNumber, String puzzle, String solution, String difficulty, Status status) {
+    this.lineNumber = lineNumber;
+    this.puzzle = puzzle;
+    this.solution = solution;
+    this.difficulty = difficulty;
+    this.status = status;
+  }
+
+  static PuzzleGrade graded(long lineNumber, String puzzle, String solution, String difficulty) {
+    return new PuzzleGrade(lineNumber, puzzle, solution, difficulty, Status.GRADED);
+  }
+
+  static PuzzleGrade rejected(long lineNumber, String puzzle, Status status) {
+    return new PuzzleGrade(lineNumber, puzzle, null, null, status);
+  }
+
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  public String getPuzzle() {
+    return puzzle;
+  }
+
+  public String getSolution() {
+    return solution;
+  }
+
+  public String getDifficulty() {
+    return difficulty;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public boolean isGraded() {
+    return status == Status.GRADED;
+  }
+}
@@ -0,0 +1,53 @@
+package com.sudoku.solver;
+
+final class SearchCounter {
+
+  private static final int TIME_CHECK_INTERVAL = 1024;
+
+  private final long maxNodes;
+  private final long deadline;
+  private final long start;
+  private long nodes;
+  private int maxDepth;
+  private long backtracks;
+  private SearchResult.Status status = SearchResult.Status.COMPLETED;
+
+  SearchCounter(SearchLimits limits) {
+    this.start = System.nanoTime();
+    this.maxNodes = limits.hasNodeLimit() ? limits.getMaxNodes() : Long.MAX_VALUE;
+    this.deadline = limits.hasTimeLimit() ? start + limits.getMaxTimeNanos() : 0;
+  }
+
+  boolean enter(int depth) {
+    if (status != SearchResult.Status.COMPLETED) {
+      return false;
+    }
+    if (nodes >= maxNodes) {
+      status = SearchResult.Status.NODE_LIMIT_EXCEEDED;
+      return false;
+    }
+    nodes++;
+    if (depth > maxDepth) {
+      maxDepth = depth;
+    }
+    if (deadline != 0 && nodes % TIME_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+      status = SearchResult.Status.TIME_LIMIT_EXCEEDED;
+      return false;
+    }
+    return true;
+  }
+
+  void backtrack() {
+    if (status == SearchResult.Status.COMPLETED) {
+      backtracks++;
+    }
+  }
+
+  boolean isAborted() {
+    return status != SearchResult.Status.COMPLETED;
+  }
+
+  SearchResult result(int solutions) {
+    return new SearchResult(status, solutions, nodes, maxDepth, backtracks, System.nanoTime() - start);
+  }
+}
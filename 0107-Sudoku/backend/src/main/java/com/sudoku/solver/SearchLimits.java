@@ -0,0 +1,48 @@
+package com.sudoku.solver;
+
+import java.time.Duration;
+
+public final class SearchLimits {
+
+  public static final SearchLimits UNLIMITED = new SearchLimits(0, 0);
+
+  private final long maxNodes;
+  private final long maxTimeNanos;
+
+  private SearchLimits(long maxNodes, long maxTimeNanos) {
+    this.maxNodes = maxNodes;
+    this.maxTimeNanos = maxTimeNanos;
+  }
+
+  public static SearchLimits of(long maxNodes, Duration maxTime) {
+    if (maxNodes < 0) {
+      throw new IllegalArgumentException("maxNodes must not be negative: " + maxNodes);
+    }
+    if (maxTime != null && maxTime.isNegative()) {
+      throw new IllegalArgumentException("maxTime must not be negative: " + maxTime);
+    }
+    return new SearchLimits(maxNodes, maxTime == null ? 0 : maxTime.toNanos());
+  }
+
+  public long getMaxNodes() {
+    return maxNodes;
+  }
+
+  public long getMaxTimeNanos() {
+    return maxTimeNanos;
+  }
+
+  public boolean hasNodeLimit() {
+    return maxNodes > 0;
+  }
+
+  public boolean hasTimeLimit() {
+    return maxTimeNanos > 0;
+  }
+
+  @Override
+  public String toString() {
+    return "SearchLimits{maxNodes=" + (hasNodeLimit() ? maxNodes : "unlimited")
+        + ", maxTime=" + (hasTimeLimit() ? Duration.ofNanos(maxTimeNanos) : "unlimited") + "}";
+  }
+}
@@ -0,0 +1,78 @@
+package com.sudoku.solver;
+
+public final class SearchResult {
+
+  public enum Status {
+    COMPLETED,
+    NODE_LIMIT_EXCEEDED,
+    TIME_LIMIT_EXCEEDED
+  }
+
+  private static final SearchResult EMPTY = new SearchResult(Status.COMPLETED, 0, 0, 0, 0, 0);
+
+  private final Status status;
+  private final int solutions;
+  private final long nodes;
+  private final int maxDepth;
+  private final long backtracks;
+  private final long elapsedNanos;
+
+  SearchResult(Status status, int solutions, long nodes, int maxDepth, long backtracks, long elapsedNanos) {
+    this.status = status;
+    this.solutions = solutions;
+    this.nodes = nodes;
+    this.maxDepth = maxDepth;
+    this.backtracks = backtracks;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  static SearchResult empty() {
+    return EMPTY;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public int getSolutions() {
+    return solutions;
+  }
+
+  public long getNodes() {
+    return nodes;
+  }
+
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  public long getBacktracks() {
+    return backtracks;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  public boolean isAborted() {
+    return status != Status.COMPLETED;
+  }
+
+  public boolean isSolved() {
+    return solutions > 0;
+  }
+
+  public boolean isUnique() {
+    return status == Status.COMPLETED && solutions == 1;
+  }
+
+  @Override
+  public String toString() {
+    return "SearchResult{status=" + status
+        + ", solutions=" + solutions
+        + ", nodes=" + nodes
+        + ", maxDepth=" + maxDepth
+        + ", backtracks=" + backtracks
+        + ", elapsedMicros=" + elapsedNanos / 1_000 + "}";
+  }
+}
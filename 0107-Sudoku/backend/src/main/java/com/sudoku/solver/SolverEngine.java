@@ -0,0 +1,7 @@
+package com.sudoku.solver;
+
+public enum SolverEngine {
+  SCANNING,
+  BITBOARD,
+  PROPAGATING
+}
@@ -0,0 +1,126 @@
+package com.sudoku.solver;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+final class SolverMetrics {
+
+  static final int TECHNIQUE_SAMPLE_INTERVAL = 16;
+
+  static final Technique NAKED_SINGLE = new Technique("naked_single");
+  static final Technique HIDDEN_SINGLE = new Technique("hidden_single");
+  static final Technique NAKED_PAIR = new Technique("naked_pair");
+  static final Technique POINTING = new Technique("pointing");
+
+  private static final Map<String, DifficultyMeters> DIFFICULTIES = new HashMap<>();
+  private static final Map<SearchResult.Status, Counter> ABORTED = new EnumMap<>(SearchResult.Status.class);
+
+  static {
+    for (String difficulty : List.of("EASY", "MEDIUM", "HARD", "EXPERT")) {
+      DIFFICULTIES.put(difficulty, new DifficultyMeters(difficulty));
+    }
+    for (SearchResult.Status status : SearchResult.Status.values()) {
+      if (status != SearchResult.Status.COMPLETED) {
+        ABORTED.put(status, Counter.builder("sudoku.solver.search.aborted")
+            .tag("reason", status.name().toLowerCase())
+            .register(registry()));
+      }
+    }
+  }
+
+  private SolverMetrics() {}
+
+  static boolean time(Technique technique, int[] board, Predicate<int[]> step) {
+    if (technique.calls.getAndIncrement() % TECHNIQUE_SAMPLE_INTERVAL != 0) {
+      return step.test(board);
+    }
+    long start = System.nanoTime();
+    boolean applied = step.test(board);
+    (applied ? technique.applied : technique.notApplied).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return applied;
+  }
+
+  static void recordGrade(String difficulty, long nanos) {
+    DIFFICULTIES.get(difficulty).grade.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  static void recordGenerationAttempt(String difficulty) {
+    DIFFICULTIES.get(difficulty).attempts.increment();
+  }
+
+  static void recordGeneration(String difficulty, boolean succeeded, long nanos) {
+    DifficultyMeters meters = DIFFICULTIES.get(difficulty);
+    if (succeeded) {
+      meters.generated.record(nanos, TimeUnit.NANOSECONDS);
+    } else {
+      meters.notGenerated.record(nanos, TimeUnit.NANOSECONDS);
+      meters.failures.increment();
+    }
+  }
+
+  static void recordSearchAborted(SearchResult.Status status) {
+    ABORTED.get(status).increment();
+  }
+
+  private static MeterRegistry registry() {
+    return Metrics.globalRegistry;
+  }
+
+  static final class Technique {
+
+    private final Timer applied;
+    private final Timer notApplied;
+    private final AtomicLong calls = new AtomicLong();
+
+    private Technique(String name) {
+      this.applied = timer(name, "applied");
+      this.notApplied = timer(name, "not_applied");
+    }
+
+    private static Timer timer(String name, String outcome) {
+      return Timer.builder("sudoku.solver.technique")
+          .tag("technique", name)
+          .tag("outcome", outcome)
+          .register(registry());
+    }
+  }
+
+  private static final class DifficultyMeters {
+
+    private final Timer grade;
+    private final Counter attempts;
+    private final Timer generated;
+    private final Timer notGenerated;
+    private final Counter failures;
+
+    private DifficultyMeters(String difficulty) {
+      this.grade = Timer.builder("sudoku.solver.grade")
+          .tag("difficulty", difficulty)
+          .register(registry());
+      this.attempts = Counter.builder("sudoku.solver.generation.attempts")
+          .tag("difficulty", difficulty)
+          .register(registry());
+      this.generated = generateTimer(difficulty, "success");
+      this.notGenerated = generateTimer(difficulty, "failure");
+      this.failures = Counter.builder("sudoku.solver.generation.failures")
+          .tag("difficulty", difficulty)
+          .register(registry());
+    }
+
+    private static Timer generateTimer(String difficulty, String outcome) {
+      return Timer.builder("sudoku.solver.generate")
+          .tag("difficulty", difficulty)
+          .tag("outcome", outcome)
+          .register(registry());
+    }
+  }
+}
@@ -9,14 +9,36 @@ public class SudokuSolver {
   private static final Random RANDOM = new Random();
   private static final int BOARD_SIZE = 9;
   private static final int BOX_SIZE = 3;
+  private static volatile SolverEngine engine = SolverEngine.SCANNING;
+  private static volatile SearchLimits defaultLimits = SearchLimits.UNLIMITED;
 
   private SudokuSolver() {}
 
+  public static SolverEngine getEngine() {
+    return engine;
+  }
+
+  public static void setEngine(SolverEngine solverEngine) {
+    engine = solverEngine;
+  }
+
+  public static SearchLimits getDefaultLimits() {
+    return defaultLimits;
+  }
+
+  public static void setDefaultLimits(SearchLimits limits) {
+    defaultLimits = limits;
+  }
+
   public static boolean solveNakedSingle(int[] board) {
     if (board == null || board.length != BOARD_SIZE * BOARD_SIZE) {
       return false;
     }
 
+    if (engine != SolverEngine.SCANNING) {
+      return BitboardSolver.solveNakedSingle(board);
+    }
+
     boolean madeProgress = false;
 
     for (int i = 0; i < board.length; i++) {
@@ -37,6 +59,10 @@ public class SudokuSolver {
       return false;
     }
 
+    if (engine != SolverEngine.SCANNING) {
+      return BitboardSolver.solveNakedPair(board);
+    }
+
     for (int unit = 0; unit < BOARD_SIZE; unit++) {
       if (findAndApplyNakedPairInRow(board, unit)) return true;
       if (findAndApplyNakedPairInCol(board, unit)) return true;
@@ -126,6 +152,10 @@ public class SudokuSolver {
       return false;
     }
 
+    if (engine != SolverEngine.SCANNING) {
+      return BitboardSolver.solvePointing(board);
+    }
+
     for (int box = 0; box < BOARD_SIZE; box++) {
       for (int num = 1; num <= BOARD_SIZE; num++) {
         if (findAndApplyPointingInRow(board, box, num)) return true;
@@ -225,6 +255,10 @@ public class SudokuSolver {
       return false;
     }
 
+    if (engine != SolverEngine.SCANNING) {
+      return BitboardSolver.solveHiddenSingle(board);
+    }
+
     for (int num = 1; num <= BOARD_SIZE; num++) {
       for (int i = 0; i < BOARD_SIZE; i++) {
         int rowHiddenIndex = findHiddenSingleInRow(board, i, num);
@@ -349,10 +383,37 @@ public class SudokuSolver {
     if (board == null || board.length != BOARD_SIZE * BOARD_SIZE) {
       return false;
     }
-    return solveBacktrackingRecursive(board);
+
+    return solve(board, engine, SearchLimits.UNLIMITED).isSolved();
+  }
+
+  public static SearchResult solve(int[] board) {
+    return solve(board, defaultLimits);
   }
 
-  private static boolean solveBacktrackingRecursive(int[] board) {
+  public static SearchResult solve(int[] board, SearchLimits limits) {
+    if (board == null || board.length != BOARD_SIZE * BOARD_SIZE) {
+      return SearchResult.empty();
+    }
+
+    return solve(board, engine, limits);
+  }
+
+  static SearchResult solve(int[] board, SolverEngine solverEngine, SearchLimits limits) {
+    SearchCounter counter = new SearchCounter(limits);
+    boolean solved = switch (solverEngine) {
+      case SCANNING -> solveBacktrackingRecursive(board, counter, 0);
+      case BITBOARD -> BitboardSolver.solve(board, counter);
+      case PROPAGATING -> PropagatingSolver.solve(board, counter);
+    };
+    return finish(counter, solved ? 1 : 0);
+  }
+
+  private static boolean solveBacktrackingRecursive(int[] board, SearchCounter counter, int depth) {
+    if (!counter.enter(depth)) {
+      return false;
+    }
+
     int emptyIndex = findEmptyCellWithMinCandidates(board);
 
     if (emptyIndex == -1) {
@@ -369,11 +430,15 @@ public class SudokuSolver {
       if ((candidates & (1 << num)) != 0) {
         board[emptyIndex] = num;
 
-        if (solveBacktrackingRecursive(board)) {
+        if (solveBacktrackingRecursive(board, counter, depth + 1)) {
           return true;
         }
 
         board[emptyIndex] = 0;
+        if (counter.isAborted()) {
+          return false;
+        }
+        counter.backtrack();
       }
     }
 
@@ -411,16 +476,37 @@ public class SudokuSolver {
       return false;
     }
 
-    int[] boardCopy = board.clone();
-    int[] solutionCount = new int[1];
+    return countSolutions(board.clone(), 2, engine, SearchLimits.UNLIMITED).getSolutions() == 1;
+  }
+
+  public static SearchResult checkUniqueness(int[] board) {
+    return countSolutions(board, 2, defaultLimits);
+  }
 
-    countSolutions(boardCopy, solutionCount, 2);
+  public static SearchResult countSolutions(int[] board, int maxCount, SearchLimits limits) {
+    if (board == null || board.length != BOARD_SIZE * BOARD_SIZE || maxCount <= 0) {
+      return SearchResult.empty();
+    }
+
+    return countSolutions(board.clone(), maxCount, engine, limits);
+  }
 
-    return solutionCount[0] == 1;
+  static SearchResult countSolutions(int[] board, int maxCount, SolverEngine solverEngine, SearchLimits limits) {
+    SearchCounter counter = new SearchCounter(limits);
+    int solutions = switch (solverEngine) {
+      case SCANNING -> {
+        int[] solutionCount = new int[1];
+        countSolutions(board, solutionCount, maxCount, counter, 0);
+        yield solutionCount[0];
+      }
+      case BITBOARD -> BitboardSolver.countSolutions(board, maxCount, counter);
+      case PROPAGATING -> PropagatingSolver.countSolutions(board, maxCount, counter);
+    };
+    return finish(counter, solutions);
   }
 
-  private static void countSolutions(int[] board, int[] count, int maxCount) {
-    if (count[0] >= maxCount) {
+  private static void countSolutions(int[] board, int[] count, int maxCount, SearchCounter counter, int depth) {
+    if (count[0] >= maxCount || !counter.enter(depth)) {
       return;
     }
 
@@ -437,17 +523,26 @@ public class SudokuSolver {
       return;
     }
 
-    for (int num = 1; num <= BOARD_SIZE && count[0] < maxCount; num++) {
+    for (int num = 1; num <= BOARD_SIZE && count[0] < maxCount && !counter.isAborted(); num++) {
       if ((candidates & (1 << num)) != 0) {
         board[emptyIndex] = num;
 
-        countSolutions(board, count, maxCount);
+        countSolutions(board, count, maxCount, counter, depth + 1);
 
         board[emptyIndex] = 0;
+        counter.backtrack();
       }
     }
   }
 
+  private static SearchResult finish(SearchCounter counter, int solutions) {
+    SearchResult result = counter.result(solutions);
+    if (result.isAborted()) {
+      SolverMetrics.recordSearchAborted(result.getStatus());
+    }
+    return result;
+  }
+
   public static int[] generateCompleteBoard() {
     int[] board = new int[BOARD_SIZE * BOARD_SIZE];
     generateCompleteBoardRecursive(board);
@@ -523,22 +618,28 @@ public class SudokuSolver {
   }
 
   public static String getDifficulty(int[] board) {
-    int[] copy = board.clone();
+    long start = System.nanoTime();
+    String difficulty = gradeDifficulty(board.clone());
+    SolverMetrics.recordGrade(difficulty, System.nanoTime() - start);
+    return difficulty;
+  }
 
+  private static String gradeDifficulty(int[] copy) {
     boolean usedHiddenSingle = false;
     boolean usedAdvancedTechnique = false;
 
     while (hasEmptyCell(copy)) {
-      if (solveNakedSingle(copy)) {
+      if (SolverMetrics.time(SolverMetrics.NAKED_SINGLE, copy, SudokuSolver::solveNakedSingle)) {
         continue;
       }
 
-      if (solveHiddenSingle(copy)) {
+      if (SolverMetrics.time(SolverMetrics.HIDDEN_SINGLE, copy, SudokuSolver::solveHiddenSingle)) {
         usedHiddenSingle = true;
         continue;
       }
 
-      if (solveNakedPair(copy) || solvePointing(copy)) {
+      if (SolverMetrics.time(SolverMetrics.NAKED_PAIR, copy, SudokuSolver::solveNakedPair)
+          || SolverMetrics.time(SolverMetrics.POINTING, copy, SudokuSolver::solvePointing)) {
         usedAdvancedTechnique = true;
         continue;
       }
@@ -589,16 +690,20 @@ public class SudokuSolver {
         return null;
     }
 
+    long start = System.nanoTime();
     for (int attempt = 0; attempt < 10; attempt++) {
+      SolverMetrics.recordGenerationAttempt(difficulty);
       int[] completeBoard = generateCompleteBoard();
       int cellsToRemove = minRemove + RANDOM.nextInt(maxRemove - minRemove + 1);
       int[] puzzle = removeCells(completeBoard, cellsToRemove);
 
       if (getDifficulty(puzzle).equals(difficulty)) {
+        SolverMetrics.recordGeneration(difficulty, true, System.nanoTime() - start);
         return puzzle;
       }
     }
 
+    SolverMetrics.recordGeneration(difficulty, false, System.nanoTime() - start);
     return null;
   }
 }
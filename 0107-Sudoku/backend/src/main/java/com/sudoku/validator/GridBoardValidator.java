@@ -0,0 +1,117 @@
+package com.sudoku.validator;
+
+import com.sudoku.solver.ConstraintGraph;
+import com.sudoku.solver.GridGeometry;
+import java.util.Arrays;
+
+public final class GridBoardValidator {
+
+  private GridBoardValidator() {}
+
+  public static boolean isValidBoard(int[] board, GridGeometry geometry) {
+    return isValidBoard(board, geometry.getGraph());
+  }
+
+  public static boolean isValidBoard(int[] board, ConstraintGraph graph) {
+    if (board == null || board.length != graph.getCells()) {
+      return false;
+    }
+
+    for (int cell : board) {
+      if (cell < 0 || cell > graph.getSize()) {
+        return false;
+      }
+    }
+
+    return findDuplicates(board, graph).length == 0 && findBrokenCages(board, graph).length == 0;
+  }
+
+  public static int[] findDuplicates(int[] board, GridGeometry geometry) {
+    return findDuplicates(board, geometry.getGraph());
+  }
+
+  public static int[] findDuplicates(int[] board, ConstraintGraph graph) {
+    if (board == null || board.length != graph.getCells()) {
+      return new int[0];
+    }
+
+    boolean[] duplicate = new boolean[board.length];
+    for (int group = 0; group < graph.getGroupCount(); group++) {
+      markRepeated(board, graph, group, duplicate);
+    }
+
+    int[] duplicates = new int[board.length];
+    int count = 0;
+    for (int i = 0; i < board.length; i++) {
+      if (duplicate[i]) {
+        duplicates[count++] = i;
+      }
+    }
+    return Arrays.copyOf(duplicates, count);
+  }
+
+  public static int[] findBrokenCages(int[] board, ConstraintGraph graph) {
+    if (board == null || board.length != graph.getCells()) {
+      return new int[0];
+    }
+
+    int[] broken = new int[graph.getCageCount()];
+    int count = 0;
+    for (int cageIndex = 0; cageIndex < broken.length; cageIndex++) {
+      ConstraintGraph.Cage cage = graph.getCage(cageIndex);
+      int sum = 0;
+      boolean filled = true;
+      for (int position = 0; position < cage.getCellCount(); position++) {
+        int value = board[cage.getCell(position)];
+        sum += value;
+        filled &= value != 0;
+      }
+      if (sum > cage.getSum() || (filled && sum != cage.getSum())) {
+        broken[count++] = cageIndex;
+      }
+    }
+    return Arrays.copyOf(broken, count);
+  }
+
+  public static boolean isComplete(int[] board, GridGeometry geometry) {
+    return isComplete(board, geometry.getGraph());
+  }
+
+  public static boolean isComplete(int[] board, ConstraintGraph graph) {
+    if (!isValidBoard(board, graph)) {
+      return false;
+    }
+
+    for (int cell : board) {
+      if (cell == 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static void markRepeated(int[] board, ConstraintGraph graph, int group, boolean[] duplicate) {
+    int size = graph.getSize();
+    int length = graph.getGroupLength(group);
+    long seen = 0;
+    long repeated = 0;
+    for (int position = 0; position < length; position++) {
+      int value = board[graph.getGroupCell(group, position)];
+      if (value >= 1 && value <= size) {
+        repeated |= seen & (1L << value);
+        seen |= 1L << value;
+      }
+    }
+    if (repeated == 0) {
+      return;
+    }
+    for (int position = 0; position < length; position++) {
+      int index = graph.getGroupCell(group, position);
+      int value = board[index];
+      if (value >= 1 && value <= size && (repeated & (1L << value)) != 0) {
+        duplicate[index] = true;
+      }
+    }
+  }
+}
@@ -17,14 +17,27 @@ CREATE TABLE IF NOT EXISTS puzzles (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+CREATE SEQUENCE IF NOT EXISTS game_records_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS game_records (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     user_id BIGINT,
     puzzle_id BIGINT NOT NULL,
     completion_time INT,
     hint_count INT DEFAULT 0,
     is_completed BOOLEAN DEFAULT FALSE,
+    is_given_up BOOLEAN NOT NULL DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id),
     FOREIGN KEY (puzzle_id) REFERENCES puzzles(id)
 );
+
+CREATE TABLE IF NOT EXISTS difficulty_statistics (
+    difficulty VARCHAR(20) PRIMARY KEY,
+    games_started BIGINT NOT NULL DEFAULT 0,
+    games_completed BIGINT NOT NULL DEFAULT 0,
+    games_given_up BIGINT NOT NULL DEFAULT 0,
+    hints_used BIGINT NOT NULL DEFAULT 0,
+    total_completion_time BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,84 @@
+package com.sudoku.config;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import com.sudoku.repository.GameRecordRepository;
+import com.sudoku.repository.PuzzleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private PuzzleRepository puzzleRepository;
+
+  @Autowired
+  private GameRecordRepository gameRecordRepository;
+
+  @Autowired
+  private PuzzlePoolMetrics puzzlePoolMetrics;
+
+  @BeforeEach
+  void setUp() {
+    gameRecordRepository.deleteAll();
+    puzzleRepository.deleteAll();
+  }
+
+  @Test
+  void should_exposeGameAndPoolMetrics_when_prometheusScraped() throws Exception {
+    puzzleRepository.save(Puzzle.builder()
+        .difficulty(Difficulty.EASY)
+        .initialBoard("530070000600195000098000060800060003400803001700020006060000280000419005000080079")
+        .solution("534678912672195348198342567859761423426853791713924856961537284287419635345286179")
+        .isActive(true)
+        .build());
+    puzzlePoolMetrics.refresh();
+
+    mockMvc.perform(get("/api/games/start")
+            .param("difficulty", "EASY"))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString("sudoku_game_operation_seconds_count")))
+        .andExpect(content().string(containsString("sudoku_puzzle_pool_size{")))
+        .andExpect(content().string(containsString("sudoku_game_session_cache_requests_total")));
+  }
+
+  @Test
+  void should_allowHealthCheck_when_anonymous() throws Exception {
+    mockMvc.perform(get("/actuator/health"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @WithMockUser(roles = "USER")
+  void should_returnForbidden_when_nonAdminRequestsMetricsEndpoint() throws Exception {
+    mockMvc.perform(get("/actuator/metrics"))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  void should_returnMetrics_when_adminRequestsMetricsEndpoint() throws Exception {
+    mockMvc.perform(get("/actuator/metrics/http.server.requests"))
+        .andExpect(status().isOk());
+  }
+}
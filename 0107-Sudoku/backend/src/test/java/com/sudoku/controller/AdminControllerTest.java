@@ -0,0 +1,233 @@
+package com.sudoku.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.DifficultyStatistics;
+import com.sudoku.domain.Puzzle;
+import com.sudoku.dto.DifficultyStatisticsResponse;
+import com.sudoku.io.PackedPuzzleCodec;
+import com.sudoku.repository.DifficultyStatisticsRepository;
+import com.sudoku.repository.GameRecordRepository;
+import com.sudoku.repository.PuzzleRepository;
+import com.sudoku.service.GameStatisticsService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private PuzzleRepository puzzleRepository;
+
+  @Autowired
+  private GameRecordRepository gameRecordRepository;
+
+  @Autowired
+  private DifficultyStatisticsRepository difficultyStatisticsRepository;
+
+  @Autowired
+  private GameStatisticsService gameStatisticsService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  void setUp() {
+    gameRecordRepository.deleteAll();
+    puzzleRepository.deleteAll();
+  }
+
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  void should_returnStatisticsForEveryDifficulty_when_adminRequests() throws Exception {
+    mockMvc.perform(get("/api/admin/statistics"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.difficulties.length()").value(4))
+        .andExpect(jsonPath("$.difficulties[0].difficulty").value("EASY"))
+        .andExpect(jsonPath("$.difficulties[3].difficulty").value("EXPERT"))
+        .andExpect(jsonPath("$.difficulties[0].gamesStarted").isNumber())
+        .andExpect(jsonPath("$.anonymousGames.activeGames").isNumber());
+  }
+
+  @Test
+  @WithMockUser(roles = "USER")
+  void should_returnForbidden_when_nonAdminRequestsStatistics() throws Exception {
+    mockMvc.perform(get("/api/admin/statistics"))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void should_returnForbidden_when_anonymousRequestsStatistics() throws Exception {
+    mockMvc.perform(get("/api/admin/statistics"))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void should_countStartedGame_when_gameStarted() throws Exception {
+    puzzleRepository.save(createTestPuzzle(Difficulty.MEDIUM));
+    long before = findStatistics(Difficulty.MEDIUM).getGamesStarted();
+
+    mockMvc.perform(get("/api/games/start")
+            .param("difficulty", "MEDIUM"))
+        .andExpect(status().isOk());
+
+    assertThat(findStatistics(Difficulty.MEDIUM).getGamesStarted()).isEqualTo(before + 1);
+  }
+
+  @Test
+  void should_addDeltasToRollup_when_anotherInstanceFlushedInBetween() {
+    gameStatisticsService.recordHintUsed(Difficulty.HARD);
+    gameStatisticsService.flush();
+    long flushed = difficultyStatisticsRepository.findById(Difficulty.HARD).orElseThrow().getHintsUsed();
+    jdbcTemplate.update("UPDATE difficulty_statistics SET hints_used = hints_used + 10 WHERE difficulty = 'HARD'");
+
+    gameStatisticsService.recordHintUsed(Difficulty.HARD);
+    gameStatisticsService.flush();
+
+    DifficultyStatistics rollup = difficultyStatisticsRepository.findById(Difficulty.HARD).orElseThrow();
+    assertThat(rollup.getHintsUsed()).isEqualTo(flushed + 11);
+  }
+
+  @Test
+  void should_notCountEvent_when_transactionRollsBack() {
+    long before = findStatistics(Difficulty.EXPERT).getGamesStarted();
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      gameStatisticsService.recordGameStarted(Difficulty.EXPERT);
+      status.setRollbackOnly();
+    });
+
+    assertThat(findStatistics(Difficulty.EXPERT).getGamesStarted()).isEqualTo(before);
+  }
+
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  void should_streamGzippedLines_when_adminExportsPuzzles() throws Exception {
+    puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    puzzleRepository.save(createTestPuzzle(Difficulty.HARD));
+
+    byte[] body = export("LINES", null);
+
+    String lines = new String(gunzip(body).readAllBytes(), StandardCharsets.US_ASCII);
+    assertThat(lines.split("\n")).hasSize(2)
+        .allMatch(line -> line.equals(createTestPuzzle(Difficulty.EASY).getInitialBoard()));
+  }
+
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  void should_streamPackedRecords_when_adminExportsDifficultyAsPacked() throws Exception {
+    puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    Puzzle hard = puzzleRepository.save(createTestPuzzle(Difficulty.HARD));
+
+    byte[] body = export("PACKED", "HARD");
+
+    try (InputStream in = gunzip(body)) {
+      PackedPuzzleCodec.readHeader(in);
+      byte[] record = new byte[PackedPuzzleCodec.RECORD_BYTES];
+      new DataInputStream(in).readFully(record);
+      Puzzle decoded = PackedPuzzleCodec.decode(record);
+      assertThat(decoded.getDifficulty()).isEqualTo(Difficulty.HARD);
+      assertThat(decoded.getSolution()).isEqualTo(hard.getSolution());
+      assertThat(in.read()).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  @WithMockUser(roles = "USER")
+  void should_returnForbidden_when_nonAdminExportsPuzzles() throws Exception {
+    mockMvc.perform(get("/api/admin/puzzles/export"))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  void should_countStreamedQueriesOnce_when_exportCompletesAsynchronously() throws Exception {
+    puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    long countBefore = exportQueries().count();
+    double queriesBefore = exportQueries().totalAmount();
+
+    export("LINES", null);
+
+    assertThat(exportQueries().count()).isEqualTo(countBefore + 1);
+    assertThat(exportQueries().totalAmount()).isGreaterThan(queriesBefore);
+  }
+
+  private DistributionSummary exportQueries() {
+    return DistributionSummary.builder("sudoku.db.queries.per.request")
+        .tag("method", "GET")
+        .tag("uri", "/api/admin/puzzles/export")
+        .register(meterRegistry);
+  }
+
+  private byte[] export(String format, String difficulty) throws Exception {
+    MockHttpServletRequestBuilder exportRequest = get("/api/admin/puzzles/export").param("format", format);
+    if (difficulty != null) {
+      exportRequest.param("difficulty", difficulty);
+    }
+    MvcResult started = mockMvc.perform(exportRequest)
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    return mockMvc.perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "application/gzip"))
+        .andReturn()
+        .getResponse()
+        .getContentAsByteArray();
+  }
+
+  private InputStream gunzip(byte[] body) throws IOException {
+    return new GZIPInputStream(new ByteArrayInputStream(body));
+  }
+
+  private DifficultyStatisticsResponse findStatistics(Difficulty difficulty) {
+    return gameStatisticsService.getStatistics().getDifficulties().stream()
+        .filter(statistics -> statistics.getDifficulty().equals(difficulty.name()))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private Puzzle createTestPuzzle(Difficulty difficulty) {
+    return Puzzle.builder()
+        .difficulty(difficulty)
+        .initialBoard("530070000600195000098000060800060003400803001700020006060000280000419005000080079")
+        .solution("534678912672195348198342567859761423426853791713924856961537284287419635345286179")
+        .isActive(true)
+        .build();
+  }
+}
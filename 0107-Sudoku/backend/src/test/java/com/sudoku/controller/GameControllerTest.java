@@ -1,26 +1,32 @@
 package com.sudoku.controller;
 
+import static org.hamcrest.Matchers.lessThan;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sudoku.domain.Difficulty;
 import com.sudoku.domain.GameRecord;
 import com.sudoku.domain.Puzzle;
 import com.sudoku.domain.User;
+import com.sudoku.dto.DifficultyStatisticsResponse;
 import com.sudoku.dto.GameCompleteRequest;
 import com.sudoku.dto.GameHintRequest;
+import com.sudoku.repository.GameRecordBatchWriter;
 import com.sudoku.repository.GameRecordRepository;
 import com.sudoku.repository.PuzzleRepository;
 import com.sudoku.repository.UserRepository;
+import com.sudoku.service.GameStatisticsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 @SpringBootTest
@@ -36,9 +42,15 @@ class GameControllerTest {
   @Autowired
   private GameRecordRepository gameRecordRepository;
 
+  @Autowired
+  private GameRecordBatchWriter gameRecordBatchWriter;
+
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private GameStatisticsService gameStatisticsService;
+
   @Autowired
   private ObjectMapper objectMapper;
 
@@ -49,6 +61,7 @@ class GameControllerTest {
 
   @BeforeEach
   void setUp() {
+    gameRecordBatchWriter.flush();
     gameRecordRepository.deleteAll();
     puzzleRepository.deleteAll();
     userRepository.deleteAll();
@@ -129,7 +142,13 @@ class GameControllerTest {
   }
 
   @Test
+  @WithMockUser(username = "player@example.com")
   void should_createGameRecord_when_startGame() throws Exception {
+    userRepository.save(User.builder()
+        .email("player@example.com")
+        .password("password123")
+        .nickname("player")
+        .build());
     Puzzle puzzle = createTestPuzzle(Difficulty.EASY);
     puzzleRepository.save(puzzle);
 
@@ -138,11 +157,25 @@ class GameControllerTest {
     mockMvc.perform(get("/api/games/start")
             .param("difficulty", "EASY"))
         .andExpect(status().isOk());
+    gameRecordBatchWriter.flush();
 
     long finalCount = gameRecordRepository.count();
     assert finalCount == initialCount + 1;
   }
 
+  @Test
+  void should_keepAnonymousGameInMemory_when_startGameWithoutLogin() throws Exception {
+    puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+
+    mockMvc.perform(get("/api/games/start")
+            .param("difficulty", "EASY"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.gameId").value(lessThan(0)))
+        .andExpect(jsonPath("$.gameToken").isString());
+
+    assert gameRecordRepository.count() == 0;
+  }
+
   @Test
   void should_notIncludeSolutionInResponse_when_startGame() throws Exception {
     Puzzle puzzle = createTestPuzzle(Difficulty.EASY);
@@ -353,6 +386,49 @@ class GameControllerTest {
     assert !updatedRecord.getIsCompleted();
   }
 
+  @Test
+  void should_countGiveUpOnce_when_gameGivenUpTwice() throws Exception {
+    Puzzle puzzle = puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    GameRecord gameRecord = gameRecordRepository.save(GameRecord.builder()
+        .puzzle(puzzle)
+        .hintCount(0)
+        .isCompleted(false)
+        .build());
+    long givenUpBefore = findStatistics(Difficulty.EASY).getGamesGivenUp();
+
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(post("/api/games/{id}/give-up", gameRecord.getId()))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.solution").value(VALID_SOLUTION));
+    }
+
+    assert findStatistics(Difficulty.EASY).getGamesGivenUp() == givenUpBefore + 1;
+    assert gameRecordRepository.findById(gameRecord.getId()).orElseThrow().getIsGivenUp();
+  }
+
+  @Test
+  void should_rejectCompletion_when_gameGivenUp() throws Exception {
+    Puzzle puzzle = puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    GameRecord gameRecord = gameRecordRepository.save(GameRecord.builder()
+        .puzzle(puzzle)
+        .hintCount(0)
+        .isCompleted(false)
+        .build());
+    long completedBefore = findStatistics(Difficulty.EASY).getGamesCompleted();
+
+    mockMvc.perform(post("/api/games/{id}/give-up", gameRecord.getId()))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(post("/api/games/{id}/complete", gameRecord.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new GameCompleteRequest(VALID_SOLUTION, 120))))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Game was given up with id: " + gameRecord.getId()));
+
+    assert findStatistics(Difficulty.EASY).getGamesCompleted() == completedBefore;
+    assert !gameRecordRepository.findById(gameRecord.getId()).orElseThrow().getIsCompleted();
+  }
+
   @Test
   void should_returnNotFound_when_giveUpGameNotFound() throws Exception {
     mockMvc.perform(post("/api/games/{id}/give-up", 99999L))
@@ -490,4 +566,200 @@ class GameControllerTest {
         .andExpect(status().isBadRequest())
         .andExpect(jsonPath("$.message").value("No empty cells to hint"));
   }
+
+  @Test
+  void should_reloadGameState_when_hintCountChangedOutsideCache() throws Exception {
+    Puzzle puzzle = puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    GameRecord gameRecord = gameRecordRepository.save(GameRecord.builder()
+        .puzzle(puzzle)
+        .hintCount(0)
+        .isCompleted(false)
+        .build());
+
+    String currentBoard = "030070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    GameHintRequest request = new GameHintRequest(currentBoard);
+
+    mockMvc.perform(post("/api/games/{id}/hint", gameRecord.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.remainingHints").value(4));
+
+    GameRecord stored = gameRecordRepository.findById(gameRecord.getId()).orElseThrow();
+    stored.setHintCount(5);
+    gameRecordRepository.save(stored);
+
+    mockMvc.perform(post("/api/games/{id}/hint", gameRecord.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Hint limit exceeded for game: " + gameRecord.getId()));
+  }
+
+  @Test
+  void should_retryWithFreshHintCount_when_hintUsedOutsideCache() throws Exception {
+    Puzzle puzzle = puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    GameRecord gameRecord = gameRecordRepository.save(GameRecord.builder()
+        .puzzle(puzzle)
+        .hintCount(0)
+        .isCompleted(false)
+        .build());
+
+    String currentBoard = "030070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    GameHintRequest request = new GameHintRequest(currentBoard);
+
+    mockMvc.perform(post("/api/games/{id}/hint", gameRecord.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.remainingHints").value(4));
+
+    GameRecord stored = gameRecordRepository.findById(gameRecord.getId()).orElseThrow();
+    stored.setHintCount(2);
+    gameRecordRepository.save(stored);
+
+    mockMvc.perform(post("/api/games/{id}/hint", gameRecord.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.remainingHints").value(2));
+
+    assert gameRecordRepository.findById(gameRecord.getId()).orElseThrow().getHintCount() == 3;
+  }
+
+  @Test
+  void should_rejectCompletion_when_gameCompletedOutsideCache() throws Exception {
+    Puzzle puzzle = puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    GameRecord gameRecord = gameRecordRepository.save(GameRecord.builder()
+        .puzzle(puzzle)
+        .hintCount(0)
+        .isCompleted(false)
+        .build());
+
+    mockMvc.perform(post("/api/games/{id}/complete", gameRecord.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new GameCompleteRequest(INVALID_SOLUTION, 60))))
+        .andExpect(status().isBadRequest());
+
+    GameRecord stored = gameRecordRepository.findById(gameRecord.getId()).orElseThrow();
+    stored.setIsCompleted(true);
+    stored.setCompletionTime(90);
+    gameRecordRepository.save(stored);
+
+    GameCompleteRequest request = new GameCompleteRequest(VALID_SOLUTION, 120);
+
+    mockMvc.perform(post("/api/games/{id}/complete", gameRecord.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Game already completed with id: " + gameRecord.getId()));
+
+    assert gameRecordRepository.findById(gameRecord.getId()).orElseThrow().getCompletionTime() == 90;
+  }
+
+  @Test
+  void should_returnHintFromMemory_when_anonymousGameTokenProvided() throws Exception {
+    puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    JsonNode game = startAnonymousGame();
+
+    String currentBoard = "030070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    GameHintRequest request = new GameHintRequest(currentBoard);
+
+    mockMvc.perform(post("/api/games/{id}/hint", game.get("gameId").asLong())
+            .header("X-Game-Token", game.get("gameToken").asText())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.value").value(5))
+        .andExpect(jsonPath("$.remainingHints").value(4));
+  }
+
+  @Test
+  void should_completeAnonymousGame_when_validBoardAndTokenProvided() throws Exception {
+    puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    JsonNode game = startAnonymousGame();
+    long gameId = game.get("gameId").asLong();
+    String gameToken = game.get("gameToken").asText();
+
+    GameCompleteRequest request = new GameCompleteRequest(VALID_SOLUTION, 120);
+
+    mockMvc.perform(post("/api/games/{id}/complete", gameId)
+            .header("X-Game-Token", gameToken)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.gameId").value(gameId))
+        .andExpect(jsonPath("$.completionTime").value(120))
+        .andExpect(jsonPath("$.isRankingEligible").value(false));
+
+    mockMvc.perform(post("/api/games/{id}/give-up", gameId)
+            .header("X-Game-Token", gameToken))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Game already completed with id: " + gameId));
+  }
+
+  @Test
+  void should_countGiveUpOnceAndRejectCompletion_when_anonymousGameGivenUp() throws Exception {
+    puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    JsonNode game = startAnonymousGame();
+    long gameId = game.get("gameId").asLong();
+    String gameToken = game.get("gameToken").asText();
+    DifficultyStatisticsResponse before = findStatistics(Difficulty.EASY);
+
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(post("/api/games/{id}/give-up", gameId)
+              .header("X-Game-Token", gameToken))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.solution").value(VALID_SOLUTION));
+    }
+
+    mockMvc.perform(post("/api/games/{id}/complete", gameId)
+            .header("X-Game-Token", gameToken)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new GameCompleteRequest(VALID_SOLUTION, 120))))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Game was given up with id: " + gameId));
+
+    DifficultyStatisticsResponse after = findStatistics(Difficulty.EASY);
+    assert after.getGamesGivenUp() == before.getGamesGivenUp() + 1;
+    assert after.getGamesCompleted().equals(before.getGamesCompleted());
+  }
+
+  @Test
+  void should_returnNotFound_when_anonymousGameTokenMissing() throws Exception {
+    puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    long gameId = startAnonymousGame().get("gameId").asLong();
+
+    mockMvc.perform(post("/api/games/{id}/give-up", gameId))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.message").value("Game not found with id: " + gameId));
+  }
+
+  @Test
+  void should_returnNotFound_when_anonymousGameTokenBelongsToAnotherGame() throws Exception {
+    puzzleRepository.save(createTestPuzzle(Difficulty.EASY));
+    long gameId = startAnonymousGame().get("gameId").asLong();
+    String otherToken = startAnonymousGame().get("gameToken").asText();
+
+    mockMvc.perform(post("/api/games/{id}/give-up", gameId)
+            .header("X-Game-Token", otherToken))
+        .andExpect(status().isNotFound());
+  }
+
+  private DifficultyStatisticsResponse findStatistics(Difficulty difficulty) {
+    return gameStatisticsService.getStatistics().getDifficulties().stream()
+        .filter(statistics -> statistics.getDifficulty().equals(difficulty.name()))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private JsonNode startAnonymousGame() throws Exception {
+    String body = mockMvc.perform(get("/api/games/start")
+            .param("difficulty", "EASY"))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+    return objectMapper.readTree(body);
+  }
 }
@@ -0,0 +1,107 @@
+package com.sudoku.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedPoolPuzzleSourceTest {
+
+  private static final String PUZZLE =
+      "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+  private static final String SOLUTION =
+      "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_servePuzzlesOfRequestedDifficulty_when_poolFileMapped() throws IOException {
+    Path file = tempDir.resolve("pool.bin");
+    try (PuzzlePoolFile.Writer writer = PuzzlePoolFile.create(file)) {
+      writer.append(puzzle(1L, Difficulty.EASY));
+      for (long id = 10; id < 2010; id++) {
+        writer.append(puzzle(id, Difficulty.HARD));
+      }
+      writer.commit();
+    }
+
+    MappedPoolPuzzleSource source = new MappedPoolPuzzleSource(file);
+
+    assertEquals(1, source.count(Difficulty.EASY));
+    assertEquals(0, source.count(Difficulty.MEDIUM));
+    assertEquals(2000, source.count(Difficulty.HARD));
+    assertTrue(source.findRandom(Difficulty.MEDIUM).isEmpty());
+
+    Puzzle easy = source.findRandom(Difficulty.EASY).orElseThrow();
+    assertEquals(1L, easy.getId());
+    assertEquals(PUZZLE, easy.getInitialBoard());
+    assertEquals(SOLUTION, easy.getSolution());
+
+    Set<Long> hardIds = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      Puzzle hard = source.findRandom(Difficulty.HARD).orElseThrow();
+      assertEquals(Difficulty.HARD, hard.getDifficulty());
+      assertTrue(hard.getId() >= 10 && hard.getId() < 2010);
+      hardIds.add(hard.getId());
+    }
+    assertTrue(hardIds.size() > 1);
+  }
+
+  @Test
+  void should_rejectAppend_when_difficultiesOutOfOrder() throws IOException {
+    try (PuzzlePoolFile.Writer writer = PuzzlePoolFile.create(tempDir.resolve("pool.bin"))) {
+      writer.append(puzzle(1L, Difficulty.HARD));
+
+      assertThrows(IllegalStateException.class, () -> writer.append(puzzle(2L, Difficulty.EASY)));
+    }
+  }
+
+  @Test
+  void should_keepPreviousPool_when_writerClosedWithoutCommit() throws IOException {
+    Path file = tempDir.resolve("pool.bin");
+    try (PuzzlePoolFile.Writer writer = PuzzlePoolFile.create(file)) {
+      writer.append(puzzle(1L, Difficulty.EASY));
+      writer.commit();
+    }
+
+    try (PuzzlePoolFile.Writer writer = PuzzlePoolFile.create(file)) {
+      writer.append(puzzle(2L, Difficulty.EASY));
+      writer.append(puzzle(3L, Difficulty.EASY));
+    }
+
+    MappedPoolPuzzleSource source = new MappedPoolPuzzleSource(file);
+    assertEquals(1, source.count(Difficulty.EASY));
+    assertEquals(1L, source.findRandom(Difficulty.EASY).orElseThrow().getId());
+    try (Stream<Path> files = Files.list(tempDir)) {
+      assertEquals(List.of(file), files.toList());
+    }
+  }
+
+  @Test
+  void should_failToMap_when_fileIsNotPool() throws IOException {
+    Path file = Files.writeString(tempDir.resolve("pool.bin"), PUZZLE);
+
+    assertThrows(IOException.class, () -> new MappedPoolPuzzleSource(file));
+  }
+
+  private Puzzle puzzle(Long id, Difficulty difficulty) {
+    return Puzzle.builder()
+        .id(id)
+        .difficulty(difficulty)
+        .initialBoard(PUZZLE)
+        .solution(SOLUTION)
+        .build();
+  }
+}
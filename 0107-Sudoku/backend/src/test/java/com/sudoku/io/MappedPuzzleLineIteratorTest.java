@@ -0,0 +1,67 @@
+package com.sudoku.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedPuzzleLineIteratorTest {
+
+  private static final String PUZZLE =
+      "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_readEveryLine_when_linesCrossWindowBoundaries() throws IOException {
+    Path file = write(PUZZLE + "\n" + PUZZLE.replace('0', '.') + "\n" + "short\n");
+
+    assertEquals(List.of(PUZZLE, PUZZLE.replace('0', '.'), "short"), readAll(file, 7));
+  }
+
+  @Test
+  void should_stripCarriageReturn_when_fileHasWindowsLineEndings() throws IOException {
+    Path file = write(PUZZLE + "\r\n" + PUZZLE + "\r\n");
+
+    assertEquals(List.of(PUZZLE, PUZZLE), readAll(file, 64));
+  }
+
+  @Test
+  void should_returnLastLine_when_fileHasNoTrailingNewline() throws IOException {
+    Path file = write("first\nsecond");
+
+    assertEquals(List.of("first", "second"), readAll(file, 4));
+  }
+
+  @Test
+  void should_returnNoLines_when_fileIsEmpty() throws IOException {
+    Path file = write("");
+
+    try (MappedPuzzleLineIterator lines = new MappedPuzzleLineIterator(file)) {
+      assertFalse(lines.hasNext());
+      assertThrows(NoSuchElementException.class, lines::next);
+    }
+  }
+
+  private Path write(String content) throws IOException {
+    return Files.writeString(tempDir.resolve("puzzles.txt"), content, StandardCharsets.US_ASCII);
+  }
+
+  private List<String> readAll(Path file, int windowSize) throws IOException {
+    List<String> result = new ArrayList<>();
+    try (MappedPuzzleLineIterator lines = new MappedPuzzleLineIterator(file, windowSize)) {
+      lines.forEachRemaining(result::add);
+    }
+    return result;
+  }
+}
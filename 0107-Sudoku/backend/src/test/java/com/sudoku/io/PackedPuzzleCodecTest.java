@@ -0,0 +1,54 @@
+package com.sudoku.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class PackedPuzzleCodecTest {
+
+  private static final String PUZZLE =
+      "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+  private static final String SOLUTION =
+      "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+  @Test
+  void should_roundTripPuzzle_when_encodedAndDecoded() {
+    Puzzle puzzle = Puzzle.builder()
+        .difficulty(Difficulty.HARD)
+        .initialBoard(PUZZLE)
+        .solution(SOLUTION)
+        .build();
+    byte[] record = new byte[PackedPuzzleCodec.RECORD_BYTES];
+
+    PackedPuzzleCodec.encode(puzzle, record);
+    Puzzle decoded = PackedPuzzleCodec.decode(record);
+
+    assertEquals(83, record.length);
+    assertEquals(Difficulty.HARD, decoded.getDifficulty());
+    assertEquals(PUZZLE, decoded.getInitialBoard());
+    assertEquals(SOLUTION, decoded.getSolution());
+  }
+
+  @Test
+  void should_rejectBoard_when_cellIsNotDigit() {
+    byte[] record = new byte[PackedPuzzleCodec.RECORD_BYTES];
+
+    assertThrows(IllegalArgumentException.class,
+        () -> PackedPuzzleCodec.packBoard(PUZZLE.replace('0', '.'), record, 1));
+  }
+
+  @Test
+  void should_acceptHeader_when_writtenByCodec() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    PackedPuzzleCodec.writeHeader(out);
+
+    PackedPuzzleCodec.readHeader(new ByteArrayInputStream(out.toByteArray()));
+    assertThrows(IOException.class, () -> PackedPuzzleCodec.readHeader(new ByteArrayInputStream(new byte[5])));
+  }
+}
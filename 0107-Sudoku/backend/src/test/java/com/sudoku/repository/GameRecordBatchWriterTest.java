@@ -0,0 +1,180 @@
+package com.sudoku.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.GameRecord;
+import com.sudoku.domain.Puzzle;
+import com.sudoku.exception.GameRecordLostException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+    "game.record-writer.batch-size=100",
+    "game.record-writer.flush-interval-ms=3600000"
+})
+class GameRecordBatchWriterTest {
+
+  @Autowired
+  private GameRecordBatchWriter gameRecordBatchWriter;
+
+  @Autowired
+  private GameRecordIdAllocator gameRecordIdAllocator;
+
+  @Autowired
+  private GameRecordRepository gameRecordRepository;
+
+  @Autowired
+  private PuzzleRepository puzzleRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private static final String INSERT_EXISTING_SQL =
+      "INSERT INTO game_records (id, puzzle_id, hint_count, is_completed, created_at)"
+          + " VALUES (?, ?, 0, FALSE, CURRENT_TIMESTAMP)";
+
+  private Puzzle testPuzzle;
+
+  @BeforeEach
+  void setUp() {
+    gameRecordBatchWriter.flush();
+    gameRecordRepository.deleteAll();
+    puzzleRepository.deleteAll();
+
+    testPuzzle = puzzleRepository.save(Puzzle.builder()
+        .difficulty(Difficulty.EASY)
+        .initialBoard("530070000600195000098000060800060003400803001700020006060000280000419005000080079")
+        .solution("534678912672195348198342567859761423426853791713924856961537284287419635345286179")
+        .isActive(true)
+        .build());
+  }
+
+  @Test
+  void should_returnIdWithoutInserting_when_recordEnqueued() {
+    long gameId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+
+    assertThat(gameRecordBatchWriter.isPending(gameId)).isTrue();
+    assertThat(gameRecordRepository.existsById(gameId)).isFalse();
+  }
+
+  @Test
+  void should_insertAllPendingRecords_when_flushed() {
+    long firstId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+    long secondId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+    long thirdId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+
+    gameRecordBatchWriter.flush();
+
+    assertThat(gameRecordRepository.findAllById(List.of(firstId, secondId, thirdId))).hasSize(3);
+    assertThat(gameRecordBatchWriter.isPending(firstId)).isFalse();
+  }
+
+  @Test
+  void should_persistRecord_when_ensurePersistedCalledForPendingGame() {
+    long gameId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+
+    gameRecordBatchWriter.ensurePersisted(gameId);
+
+    GameRecord saved = gameRecordRepository.findById(gameId).orElseThrow();
+    assertThat(saved.getHintCount()).isZero();
+    assertThat(saved.getIsCompleted()).isFalse();
+    assertThat(saved.getCreatedAt()).isNotNull();
+  }
+
+  @Test
+  void should_allocateUniqueIncreasingIds_when_manyRecordsEnqueued() {
+    long previousId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+    for (int i = 0; i < GameRecord.ID_ALLOCATION_SIZE * 2; i++) {
+      long gameId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+      assertThat(gameId).isGreaterThan(previousId);
+      previousId = gameId;
+    }
+  }
+
+  @Test
+  void should_notCollideWithJpaGeneratedIds_when_mixedWithRepositorySaves() {
+    long enqueuedId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+    GameRecord saved = gameRecordRepository.save(GameRecord.builder().puzzle(testPuzzle).build());
+
+    gameRecordBatchWriter.flush();
+
+    assertThat(saved.getId()).isNotEqualTo(enqueuedId);
+    assertThat(gameRecordRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  void should_discardRecord_when_enqueuingTransactionRollsBack() {
+    long gameId = new TransactionTemplate(transactionManager).execute(status -> {
+      status.setRollbackOnly();
+      return gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+    });
+
+    gameRecordBatchWriter.flush();
+
+    assertThat(gameRecordBatchWriter.isPending(gameId)).isFalse();
+    assertThat(gameRecordRepository.existsById(gameId)).isFalse();
+  }
+
+  @Test
+  void should_requeueRecord_when_persistingTransactionRollsBack() {
+    long gameId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      gameRecordBatchWriter.ensurePersisted(gameId);
+      assertThat(gameRecordRepository.existsById(gameId)).isTrue();
+      status.setRollbackOnly();
+    });
+
+    assertThat(gameRecordBatchWriter.isPending(gameId)).isTrue();
+    gameRecordBatchWriter.flush();
+    assertThat(gameRecordRepository.existsById(gameId)).isTrue();
+  }
+
+  @Test
+  void should_keepRecordQueued_when_batchInsertFails() {
+    long gameId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+    jdbcTemplate.execute("ALTER TABLE game_records RENAME TO game_records_offline");
+    try {
+      gameRecordBatchWriter.flush();
+    } finally {
+      jdbcTemplate.execute("ALTER TABLE game_records_offline RENAME TO game_records");
+    }
+
+    assertThat(gameRecordBatchWriter.isPending(gameId)).isTrue();
+    gameRecordBatchWriter.flush();
+    assertThat(gameRecordRepository.existsById(gameId)).isTrue();
+  }
+
+  @Test
+  void should_failGame_when_recordIdCollidesWithExistingRow() {
+    long gameId = gameRecordBatchWriter.enqueue(null, testPuzzle.getId());
+    jdbcTemplate.update(INSERT_EXISTING_SQL, gameId, testPuzzle.getId());
+
+    gameRecordBatchWriter.flush();
+
+    assertThat(gameRecordBatchWriter.isPending(gameId)).isFalse();
+    assertThatThrownBy(() -> gameRecordBatchWriter.ensurePersisted(gameId))
+        .isInstanceOf(GameRecordLostException.class);
+  }
+
+  @Test
+  void should_restartSequencePastExistingIds_when_sequenceIsBehind() {
+    long existingId = gameRecordIdAllocator.nextId() + 10_000;
+    jdbcTemplate.update(INSERT_EXISTING_SQL, existingId, testPuzzle.getId());
+
+    gameRecordIdAllocator.alignWithExistingIds();
+
+    assertThat(gameRecordIdAllocator.nextId()).isGreaterThan(existingId);
+  }
+}
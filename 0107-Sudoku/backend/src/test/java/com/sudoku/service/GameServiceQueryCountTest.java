@@ -0,0 +1,177 @@
+package com.sudoku.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudoku.config.QueryCountConfig;
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.GameRecord;
+import com.sudoku.domain.Puzzle;
+import com.sudoku.domain.User;
+import com.sudoku.dto.GameCompleteRequest;
+import com.sudoku.dto.GameHintRequest;
+import com.sudoku.repository.GameRecordBatchWriter;
+import com.sudoku.repository.GameRecordRepository;
+import com.sudoku.repository.PuzzleRepository;
+import com.sudoku.repository.UserRepository;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest(properties = {
+    "game.record-writer.batch-size=100",
+    "game.record-writer.flush-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+class GameServiceQueryCountTest {
+
+  private static final String PLAYER_EMAIL = "query-count@example.com";
+  private static final String VALID_SOLUTION =
+      "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+  private static final String CURRENT_BOARD =
+      "030070000600195000098000060800060003400803001700020006060000280000419005000080079";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private PuzzleRepository puzzleRepository;
+
+  @Autowired
+  private GameRecordRepository gameRecordRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private GameRecordBatchWriter gameRecordBatchWriter;
+
+  private Puzzle testPuzzle;
+
+  @BeforeEach
+  void setUp() {
+    gameRecordBatchWriter.flush();
+    gameRecordRepository.deleteAll();
+    puzzleRepository.deleteAll();
+    userRepository.deleteAll();
+
+    testPuzzle = puzzleRepository.save(Puzzle.builder()
+        .difficulty(Difficulty.EASY)
+        .initialBoard("530070000600195000098000060800060003400803001700020006060000280000419005000080079")
+        .solution(VALID_SOLUTION)
+        .isActive(true)
+        .build());
+    userRepository.save(User.builder()
+        .email(PLAYER_EMAIL)
+        .password("password123")
+        .nickname("querycount")
+        .build());
+  }
+
+  @Test
+  void should_useAtMostTwoQueries_when_anonymousGameStarted() throws Exception {
+    startGame();
+
+    assertThat(lastRequestQueryCount()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void should_notQueryDatabase_when_anonymousGamePlayed() throws Exception {
+    JsonNode game = startGame();
+    String gameToken = game.get("gameToken").asText();
+    long gameId = game.get("gameId").asLong();
+
+    perform(post("/api/games/{id}/hint", gameId).header("X-Game-Token", gameToken), new GameHintRequest(CURRENT_BOARD));
+    assertThat(lastRequestQueryCount()).isZero();
+
+    perform(post("/api/games/{id}/complete", gameId).header("X-Game-Token", gameToken),
+        new GameCompleteRequest(VALID_SOLUTION, 120));
+    assertThat(lastRequestQueryCount()).isZero();
+  }
+
+  @Test
+  @WithMockUser(username = PLAYER_EMAIL)
+  void should_useAtMostFourQueries_when_registeredGameStarted() throws Exception {
+    startGame();
+
+    assertThat(lastRequestQueryCount()).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  @WithMockUser(username = PLAYER_EMAIL)
+  void should_useSingleUpdate_when_hintAndCompleteServedFromSessionCache() throws Exception {
+    long gameId = startGame().get("gameId").asLong();
+    gameRecordBatchWriter.flush();
+
+    perform(post("/api/games/{id}/hint", gameId), new GameHintRequest(CURRENT_BOARD));
+    assertThat(lastRequestQueryCount()).isEqualTo(1);
+
+    perform(post("/api/games/{id}/complete", gameId), new GameCompleteRequest(VALID_SOLUTION, 120));
+    assertThat(lastRequestQueryCount()).isEqualTo(1);
+  }
+
+  @Test
+  @WithMockUser(username = PLAYER_EMAIL)
+  void should_onlyUpdateGame_when_giveUpServedFromSessionCache() throws Exception {
+    long gameId = startGame().get("gameId").asLong();
+    gameRecordBatchWriter.flush();
+
+    mockMvc.perform(post("/api/games/{id}/give-up", gameId))
+        .andExpect(status().isOk());
+    assertThat(lastRequestQueryCount()).isEqualTo(1);
+
+    mockMvc.perform(post("/api/games/{id}/give-up", gameId))
+        .andExpect(status().isOk());
+    assertThat(lastRequestQueryCount()).isZero();
+  }
+
+  @Test
+  void should_loadGameWithSingleQuery_when_sessionNotCached() throws Exception {
+    GameRecord gameRecord = gameRecordRepository.save(GameRecord.builder()
+        .puzzle(testPuzzle)
+        .hintCount(0)
+        .isCompleted(false)
+        .build());
+
+    perform(post("/api/games/{id}/hint", gameRecord.getId()), new GameHintRequest(CURRENT_BOARD));
+
+    assertThat(lastRequestQueryCount()).isLessThanOrEqualTo(2);
+  }
+
+  private JsonNode startGame() throws Exception {
+    String body = mockMvc.perform(get("/api/games/start")
+            .param("difficulty", "EASY"))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+    return objectMapper.readTree(body);
+  }
+
+  private void perform(MockHttpServletRequestBuilder request, Object body) throws Exception {
+    mockMvc.perform(request
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(body)))
+        .andExpect(status().isOk());
+  }
+
+  private long lastRequestQueryCount() {
+    QueryCount queryCount = QueryCountHolder.get(QueryCountConfig.DATA_SOURCE_NAME);
+    return queryCount != null ? queryCount.getTotal() : 0;
+  }
+}
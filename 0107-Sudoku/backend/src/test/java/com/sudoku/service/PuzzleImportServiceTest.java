@@ -0,0 +1,107 @@
+package com.sudoku.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sudoku.domain.Difficulty;
+import com.sudoku.domain.Puzzle;
+import com.sudoku.dto.PuzzleImportResult;
+import com.sudoku.io.PuzzleExportFormat;
+import com.sudoku.repository.GameRecordRepository;
+import com.sudoku.repository.PuzzleRepository;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "puzzle.import.rows-per-statement=2")
+class PuzzleImportServiceTest {
+
+  private static final String PUZZLE =
+      "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+  private static final String SOLUTION =
+      "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+  @TempDir
+  Path tempDir;
+
+  @Autowired
+  private PuzzleImportService puzzleImportService;
+
+  @Autowired
+  private PuzzleExportService puzzleExportService;
+
+  @Autowired
+  private PuzzleRepository puzzleRepository;
+
+  @Autowired
+  private GameRecordRepository gameRecordRepository;
+
+  @BeforeEach
+  void setUp() {
+    gameRecordRepository.deleteAll();
+    puzzleRepository.deleteAll();
+  }
+
+  @Test
+  void should_insertGradedPuzzlesAndCountRejects_when_fileImported() throws Exception {
+    Path file = Files.writeString(tempDir.resolve("puzzles.txt"), String.join("\n",
+        PUZZLE,
+        PUZZLE.replace('0', '.'),
+        PUZZLE,
+        "not a puzzle",
+        "0".repeat(81),
+        "55" + PUZZLE.substring(2)) + "\n");
+
+    PuzzleImportResult result = puzzleImportService.importFile(file);
+
+    assertThat(result.getProcessedLines()).isEqualTo(6);
+    assertThat(result.getImportedPuzzles()).isEqualTo(3);
+    assertThat(result.getRejectedLines()).isEqualTo(3);
+    assertThat(result.getRejectedByReason())
+        .containsEntry("INVALID_FORMAT", 1L)
+        .containsEntry("MULTIPLE_SOLUTIONS", 1L)
+        .containsEntry("INVALID_BOARD", 1L);
+
+    List<Puzzle> puzzles = puzzleRepository.findAll();
+    assertThat(puzzles).hasSize(3);
+    assertThat(puzzles).allSatisfy(puzzle -> {
+      assertThat(puzzle.getInitialBoard()).isEqualTo(PUZZLE);
+      assertThat(puzzle.getSolution()).isEqualTo(SOLUTION);
+      assertThat(puzzle.getIsActive()).isTrue();
+      assertThat(puzzle.getCreatedAt()).isNotNull();
+      assertThat(puzzle.getDifficulty()).isIn((Object[]) Difficulty.values());
+    });
+  }
+
+  @Test
+  void should_reimportPuzzles_when_fileIsExport() throws Exception {
+    for (PuzzleExportFormat format : PuzzleExportFormat.values()) {
+      puzzleRepository.deleteAll();
+      puzzleRepository.save(Puzzle.builder()
+          .difficulty(Difficulty.EASY)
+          .initialBoard(PUZZLE)
+          .solution(SOLUTION)
+          .isActive(true)
+          .build());
+      Path file = tempDir.resolve("puzzles." + format.getExtension() + ".gz");
+      try (OutputStream out = Files.newOutputStream(file)) {
+        puzzleExportService.export(out, format, null);
+      }
+      puzzleRepository.deleteAll();
+
+      PuzzleImportResult result = puzzleImportService.importFile(file);
+
+      assertThat(result.getProcessedLines()).as(format.name()).isEqualTo(1);
+      assertThat(result.getImportedPuzzles()).as(format.name()).isEqualTo(1);
+      assertThat(puzzleRepository.findAll()).singleElement().satisfies(puzzle -> {
+        assertThat(puzzle.getInitialBoard()).isEqualTo(PUZZLE);
+        assertThat(puzzle.getSolution()).isEqualTo(SOLUTION);
+      });
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.sudoku.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpiringCacheTest {
+
+  private MutableClock clock;
+  private ExpiringCache<Long, String> cache;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock();
+    cache = new ExpiringCache<>(Duration.ofMinutes(10), 3, clock);
+  }
+
+  @Test
+  void should_returnValue_when_entryNotExpired() {
+    cache.put(1L, "one");
+    clock.advance(Duration.ofMinutes(9));
+
+    assertThat(cache.get(1L)).isEqualTo("one");
+  }
+
+  @Test
+  void should_returnNull_when_entryExpired() {
+    cache.put(1L, "one");
+    clock.advance(Duration.ofMinutes(10));
+
+    assertThat(cache.get(1L)).isNull();
+    assertThat(cache.getExpiredEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  void should_evictOldestEntry_when_capacityExceeded() {
+    cache.put(1L, "one");
+    cache.put(2L, "two");
+    cache.put(3L, "three");
+    cache.put(4L, "four");
+
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.get(1L)).isNull();
+    assertThat(cache.get(4L)).isEqualTo("four");
+    assertThat(cache.getCapacityEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  void should_removeOnlyExpiredEntries_when_sweeping() {
+    cache.put(1L, "one");
+    clock.advance(Duration.ofMinutes(5));
+    cache.put(2L, "two");
+    clock.advance(Duration.ofMinutes(5));
+
+    cache.evictExpired();
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.get(2L)).isEqualTo("two");
+    assertThat(cache.getExpiredEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  void should_keepOriginalExpiry_when_valueReplaced() {
+    cache.put(1L, "one");
+    clock.advance(Duration.ofMinutes(5));
+
+    assertThat(cache.replace(1L, value -> value + "!")).isEqualTo("one!");
+    clock.advance(Duration.ofMinutes(5));
+
+    assertThat(cache.get(1L)).isNull();
+  }
+
+  @Test
+  void should_sweepPastReinsertedEntry_when_olderEntriesExpire() {
+    cache.put(1L, "one");
+    cache.put(2L, "two");
+    clock.advance(Duration.ofMinutes(5));
+    cache.put(1L, "one again");
+    clock.advance(Duration.ofMinutes(5));
+
+    cache.evictExpired();
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.get(1L)).isEqualTo("one again");
+    assertThat(cache.get(2L)).isNull();
+  }
+
+  @Test
+  void should_evictLeastRecentlyPutEntry_when_keyWasReinserted() {
+    cache.put(1L, "one");
+    cache.put(2L, "two");
+    cache.put(3L, "three");
+    cache.put(1L, "one again");
+    cache.put(4L, "four");
+
+    assertThat(cache.get(1L)).isEqualTo("one again");
+    assertThat(cache.get(2L)).isNull();
+    assertThat(cache.get(3L)).isEqualTo("three");
+    assertThat(cache.getCapacityEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  void should_skipRemovedEntry_when_evictingForCapacity() {
+    cache.put(1L, "one");
+    cache.put(2L, "two");
+    cache.put(3L, "three");
+    cache.remove(1L);
+    cache.put(1L, "one again");
+    cache.put(4L, "four");
+
+    assertThat(cache.get(1L)).isEqualTo("one again");
+    assertThat(cache.get(2L)).isNull();
+    assertThat(cache.size()).isEqualTo(3);
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+    private void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
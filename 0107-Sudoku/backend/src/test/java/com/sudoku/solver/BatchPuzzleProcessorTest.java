@@ -0,0 +1,93 @@
+package com.sudoku.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchPuzzleProcessorTest {
+
+  private static final String PUZZLE =
+      "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+  private static final String DOTTED_PUZZLE =
+      "53..7....6..195....98....6.8...6...34..8.3..17...2...6.6....28....419..5....8..79";
+  private static final String SOLUTION =
+      "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+  @Test
+  void should_gradePuzzle_when_lineHasUniqueSolution() {
+    PuzzleGrade grade = new BatchPuzzleProcessor(1, 1).grade(1, PUZZLE);
+
+    assertEquals(PuzzleGrade.Status.GRADED, grade.getStatus());
+    assertEquals(SOLUTION, grade.getSolution());
+    assertEquals(SudokuSolver.getDifficulty(toBoard(PUZZLE)), grade.getDifficulty());
+  }
+
+  @Test
+  void should_normalizeDots_when_lineUsesDotsForEmptyCells() {
+    PuzzleGrade grade = new BatchPuzzleProcessor(1, 1).grade(1, DOTTED_PUZZLE);
+
+    assertEquals(PUZZLE, grade.getPuzzle());
+    assertEquals(SOLUTION, grade.getSolution());
+  }
+
+  @Test
+  void should_rejectLine_when_formatOrBoardInvalid() {
+    BatchPuzzleProcessor processor = new BatchPuzzleProcessor(1, 1);
+
+    assertEquals(PuzzleGrade.Status.INVALID_FORMAT, processor.grade(1, "12345").getStatus());
+    assertEquals(PuzzleGrade.Status.INVALID_FORMAT, processor.grade(2, PUZZLE.replace('7', 'x')).getStatus());
+    assertEquals(PuzzleGrade.Status.INVALID_BOARD, processor.grade(3, "11" + PUZZLE.substring(2)).getStatus());
+    assertEquals(PuzzleGrade.Status.MULTIPLE_SOLUTIONS, processor.grade(4, "0".repeat(81)).getStatus());
+    assertNull(processor.grade(5, "12345").getSolution());
+  }
+
+  @Test
+  void should_emitResultsInInputOrder_when_processedInParallel() {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      lines.add(i % 7 == 0 ? "invalid" : PUZZLE);
+    }
+    List<PuzzleGrade> grades = new ArrayList<>();
+
+    BatchSummary summary = new BatchPuzzleProcessor(4, 8).process(lines.iterator(), grades::add);
+
+    assertEquals(200, grades.size());
+    for (int i = 0; i < grades.size(); i++) {
+      assertEquals(i + 1, grades.get(i).getLineNumber());
+    }
+    assertEquals(200, summary.getProcessed());
+    assertEquals(29, summary.getCount(PuzzleGrade.Status.INVALID_FORMAT));
+    assertEquals(171, summary.getGraded());
+  }
+
+  @Test
+  void should_writeCsvResults_when_processingFile(@TempDir Path tempDir) throws IOException {
+    Path input = Files.write(tempDir.resolve("puzzles.txt"), List.of(PUZZLE, "bad line", DOTTED_PUZZLE));
+    Path output = tempDir.resolve("grades.csv");
+
+    BatchSummary summary = new BatchPuzzleProcessor(2, 2).process(input, output);
+
+    List<String> written = Files.readAllLines(output);
+    assertEquals(4, written.size());
+    assertEquals("line,status,puzzle,solution,difficulty", written.get(0));
+    assertTrue(written.get(1).startsWith("1,GRADED," + PUZZLE + "," + SOLUTION + ","));
+    assertEquals("2,INVALID_FORMAT,bad line,,", written.get(2));
+    assertEquals(1, summary.getRejected());
+  }
+
+  private int[] toBoard(String puzzle) {
+    int[] board = new int[81];
+    for (int i = 0; i < board.length; i++) {
+      board[i] = puzzle.charAt(i) - '0';
+    }
+    return board;
+  }
+}
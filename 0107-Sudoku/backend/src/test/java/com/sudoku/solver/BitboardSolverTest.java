@@ -0,0 +1,104 @@
+package com.sudoku.solver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BitboardSolverTest {
+
+  private static final int BOARDS = 200;
+
+  private final Random random = new Random(42);
+  private final SolverEngine previousEngine = SudokuSolver.getEngine();
+
+  @AfterEach
+  void tearDown() {
+    SudokuSolver.setEngine(previousEngine);
+  }
+
+  @Test
+  void should_matchScanningEngine_when_applyingNakedSingle() {
+    assertSameOutcome(SudokuSolver::solveNakedSingle);
+  }
+
+  @Test
+  void should_matchScanningEngine_when_applyingHiddenSingle() {
+    assertSameOutcome(SudokuSolver::solveHiddenSingle);
+  }
+
+  @Test
+  void should_matchScanningEngine_when_applyingNakedPair() {
+    assertSameOutcome(SudokuSolver::solveNakedPair);
+  }
+
+  @Test
+  void should_matchScanningEngine_when_applyingPointing() {
+    assertSameOutcome(SudokuSolver::solvePointing);
+  }
+
+  @Test
+  void should_matchScanningEngine_when_solvingWithBacktracking() {
+    assertSameOutcome(SudokuSolver::solveBacktracking);
+  }
+
+  @Test
+  void should_matchScanningEngine_when_checkingUniqueSolution() {
+    assertSameOutcome(SudokuSolver::hasUniqueSolution);
+  }
+
+  @Test
+  void should_matchScanningEngine_when_gradingDifficulty() {
+    for (int i = 0; i < BOARDS; i++) {
+      int[] board = randomBoard(i);
+
+      SudokuSolver.setEngine(SolverEngine.SCANNING);
+      String expected = SudokuSolver.getDifficulty(board);
+      SudokuSolver.setEngine(SolverEngine.BITBOARD);
+
+      assertEquals(expected, SudokuSolver.getDifficulty(board));
+    }
+  }
+
+  @Test
+  void should_rejectInvalidBoard_when_usingBitboardEngine() {
+    SudokuSolver.setEngine(SolverEngine.BITBOARD);
+
+    assertFalse(SudokuSolver.solveNakedSingle(null));
+    assertFalse(SudokuSolver.solveBacktracking(new int[80]));
+    assertFalse(SudokuSolver.hasUniqueSolution(null));
+  }
+
+  private void assertSameOutcome(Predicate<int[]> technique) {
+    for (int i = 0; i < BOARDS; i++) {
+      int[] board = randomBoard(i);
+      int[] scanned = board.clone();
+      int[] bitboard = board.clone();
+
+      SudokuSolver.setEngine(SolverEngine.SCANNING);
+      boolean expected = technique.test(scanned);
+      SudokuSolver.setEngine(SolverEngine.BITBOARD);
+      boolean actual = technique.test(bitboard);
+
+      assertEquals(expected, actual);
+      assertArrayEquals(scanned, bitboard);
+    }
+  }
+
+  private int[] randomBoard(int seed) {
+    SudokuSolver.setEngine(SolverEngine.SCANNING);
+    int[] board = SudokuSolver.generateCompleteBoard();
+    int holes = 20 + random.nextInt(55);
+    for (int i = 0; i < holes; i++) {
+      board[random.nextInt(board.length)] = 0;
+    }
+    if (seed % 10 == 0) {
+      board[random.nextInt(board.length)] = 1 + random.nextInt(9);
+    }
+    return board;
+  }
+}
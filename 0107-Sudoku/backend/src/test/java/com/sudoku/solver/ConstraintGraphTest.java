@@ -0,0 +1,201 @@
+package com.sudoku.solver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sudoku.validator.GridBoardValidator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ConstraintGraphTest {
+
+  private static final GridGeometry NINE = GridGeometry.of(3);
+  private static final String HARD_PUZZLE =
+      "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+  @Test
+  void should_matchGeometrySolver_when_graphIsBuiltFromClassicUnits() {
+    ConstraintGraph graph = ConstraintGraph.builder(9).rows().columns().boxes(NINE).build();
+    int[] expected = parse(HARD_PUZZLE);
+    int[] actual = parse(HARD_PUZZLE);
+
+    GridSolver.solve(expected, NINE);
+    SearchResult result = GridSolver.solve(actual, graph);
+
+    assertTrue(result.isSolved());
+    assertArrayEquals(expected, actual);
+    assertEquals(20, graph.peersOf(0).length);
+  }
+
+  @Test
+  void should_keepDiagonalsDistinct_when_solvingXSudoku() {
+    for (int boxSize = 3; boxSize <= 4; boxSize++) {
+      GridGeometry geometry = GridGeometry.of(boxSize);
+      ConstraintGraph graph = ConstraintGraph.diagonal(geometry);
+      int[] board = new int[geometry.getCells()];
+
+      assertTrue(GridSolver.solve(board, graph).isSolved());
+      assertTrue(GridBoardValidator.isComplete(board, graph));
+      int size = geometry.getSize();
+      long main = 0;
+      long anti = 0;
+      for (int i = 0; i < size; i++) {
+        main |= 1L << board[i * size + i];
+        anti |= 1L << board[i * size + size - 1 - i];
+      }
+      assertEquals(size, Long.bitCount(main));
+      assertEquals(size, Long.bitCount(anti));
+    }
+  }
+
+  @Test
+  void should_generateUniquePuzzle_when_graphIsXSudoku() {
+    ConstraintGraph graph = ConstraintGraph.diagonal(NINE);
+    int[] puzzle = new GridGenerator(graph, new Random(11)).generatePuzzle("HARD");
+
+    assertTrue(GridSolver.hasUniqueSolution(puzzle, graph, SearchLimits.UNLIMITED));
+  }
+
+  @Test
+  void should_solveJigsaw_when_regionsAreIrregular() {
+    int[] regions = skewedRegions();
+    ConstraintGraph graph = ConstraintGraph.jigsaw(9, regions);
+    int[] board = new int[81];
+
+    assertTrue(GridSolver.solve(board, graph).isSolved());
+    assertTrue(GridBoardValidator.isComplete(board, graph));
+    assertFalse(GridBoardValidator.isComplete(board, NINE));
+  }
+
+  @Test
+  void should_throwException_when_regionHasWrongCellCount() {
+    int[] regions = skewedRegions();
+    regions[0] = 1;
+
+    assertThrows(IllegalArgumentException.class, () -> ConstraintGraph.jigsaw(9, regions));
+  }
+
+  @Test
+  void should_respectCageSums_when_solvingKiller() {
+    int[] full = new GridGenerator(NINE, new Random(5)).generateCompleteBoard();
+    ConstraintGraph graph = ConstraintGraph.killer(NINE, dominoCages(full));
+    int[] board = new int[81];
+
+    assertTrue(GridSolver.solve(board, graph).isSolved());
+    assertTrue(GridBoardValidator.isComplete(board, graph));
+    assertEquals(0, GridBoardValidator.findBrokenCages(board, graph).length);
+  }
+
+  @Test
+  void should_reachKnownGrid_when_killerCagesAndGivensAreUnique() {
+    int[] full = new GridGenerator(NINE, new Random(9)).generateCompleteBoard();
+    ConstraintGraph graph = ConstraintGraph.killer(NINE, dominoCages(full));
+    int[] puzzle = new int[81];
+
+    int givens = 0;
+    for (int cell = 0; cell < puzzle.length; cell++) {
+      if (GridSolver.solveExcluding(puzzle, graph, cell, full[cell], SearchLimits.UNLIMITED).isSolved()) {
+        puzzle[cell] = full[cell];
+        givens++;
+      }
+    }
+
+    assertTrue(GridSolver.hasUniqueSolution(puzzle, graph, SearchLimits.UNLIMITED));
+    GridSolver.solve(puzzle, graph);
+    assertArrayEquals(full, puzzle);
+    assertTrue(givens < 20);
+  }
+
+  @Test
+  void should_narrowCandidates_when_cageSumAllowsFewDigits() {
+    ConstraintGraph graph = ConstraintGraph.builder(9).rows().columns().boxes(NINE)
+        .cage(3, 0, 1)
+        .cage(17, 9, 10)
+        .build();
+    int[] board = new int[81];
+
+    assertTrue(GridSolver.solve(board, graph).isSolved());
+    assertEquals(3, board[0] + board[1]);
+    assertEquals(17, board[9] + board[10]);
+    assertNotEquals(board[0], board[1]);
+  }
+
+  @Test
+  void should_reportNoSolution_when_cageSumContradictsGivens() {
+    ConstraintGraph graph = ConstraintGraph.builder(9).rows().columns().boxes(NINE).cage(4, 0, 1).build();
+    int[] board = new int[81];
+    board[0] = 2;
+
+    assertFalse(GridSolver.solve(board, graph).isSolved());
+    assertEquals(1, GridBoardValidator.findBrokenCages(withCells(2, 3), graph).length);
+  }
+
+  @Test
+  void should_throwException_when_cageSumIsUnreachable() {
+    ConstraintGraph.Builder builder = ConstraintGraph.builder(9).rows().columns();
+
+    assertThrows(IllegalArgumentException.class, () -> builder.cage(2, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> builder.cage(18, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> builder.cage(5, 0, 0));
+  }
+
+  @Test
+  void should_exposeUnitsThenCages_when_readingGroupsByIndex() {
+    ConstraintGraph graph = ConstraintGraph.builder(9).rows().columns().cage(7, 1, 9).build();
+
+    assertEquals(19, graph.getGroupCount());
+    assertEquals(9, graph.getGroupLength(0));
+    assertEquals(graph.getUnits()[9][8], graph.getGroupCell(9, 8));
+    assertEquals(2, graph.getGroupLength(18));
+    assertEquals(9, graph.getGroupCell(18, 1));
+    assertEquals(1, graph.getCageCount());
+    assertEquals(2, graph.getCage(0).getCellCount());
+    assertEquals(1, graph.getCage(0).getCell(0));
+  }
+
+  private static int[] withCells(int first, int second) {
+    int[] board = new int[81];
+    board[0] = first;
+    board[1] = second;
+    return board;
+  }
+
+  private static List<ConstraintGraph.Cage> dominoCages(int[] full) {
+    List<ConstraintGraph.Cage> cages = new ArrayList<>();
+    for (int row = 0; row < 9; row++) {
+      for (int col = 0; col < 9; col += 2) {
+        int index = row * 9 + col;
+        if (col == 8) {
+          cages.add(new ConstraintGraph.Cage(full[index], index));
+        } else {
+          cages.add(new ConstraintGraph.Cage(full[index] + full[index + 1], index, index + 1));
+        }
+      }
+    }
+    return cages;
+  }
+
+  private static int[] skewedRegions() {
+    int[] regions = new int[81];
+    for (int row = 0; row < 9; row++) {
+      for (int col = 0; col < 9; col++) {
+        regions[row * 9 + col] = (row / 3) * 3 + ((col + row) % 9) / 3;
+      }
+    }
+    return regions;
+  }
+
+  private static int[] parse(String puzzle) {
+    int[] board = new int[puzzle.length()];
+    for (int i = 0; i < board.length; i++) {
+      board[i] = puzzle.charAt(i) - '0';
+    }
+    return board;
+  }
+}
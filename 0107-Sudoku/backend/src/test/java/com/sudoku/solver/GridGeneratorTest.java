@@ -0,0 +1,88 @@
+package com.sudoku.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sudoku.validator.GridBoardValidator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class GridGeneratorTest {
+
+  @Test
+  void should_generateValidCompleteBoard_when_boxSizeIsSupported() {
+    for (int boxSize = 2; boxSize <= 5; boxSize++) {
+      GridGeometry geometry = GridGeometry.of(boxSize);
+      int[] board = new GridGenerator(geometry, new Random(boxSize)).generateCompleteBoard();
+
+      assertTrue(GridBoardValidator.isComplete(board, geometry), geometry.toString());
+    }
+  }
+
+  @Test
+  void should_generateUniquePuzzle_when_gridIsSixteenBySixteen() {
+    GridGeometry geometry = GridGeometry.of(4);
+    GridGenerator generator = new GridGenerator(geometry, new Random(42));
+
+    for (String difficulty : new String[] {"EASY", "MEDIUM", "HARD"}) {
+      int[] puzzle = generator.generatePuzzle(difficulty);
+
+      assertTrue(GridBoardValidator.isValidBoard(puzzle, geometry));
+      assertTrue(GridSolver.hasUniqueSolution(puzzle, geometry, SearchLimits.UNLIMITED), difficulty);
+      assertTrue(GridGenerator.countEmpty(puzzle) >= geometry.getCells() * GridGenerator.removePercentRange(
+          difficulty)[0] / 100, difficulty);
+    }
+  }
+
+  @Test
+  void should_throwException_when_difficultyCannotBeReached() {
+    GridGenerator generator = new GridGenerator(GridGeometry.of(4), new Random(1));
+
+    assertThrows(IllegalStateException.class, () -> generator.generatePuzzle("EXPERT"));
+  }
+
+  @Test
+  void should_labelByRemovedCells_when_relabelingPuzzle() {
+    assertNull(GridGenerator.difficultyFor(81, 30));
+    assertEquals("EASY", GridGenerator.difficultyFor(81, 34));
+    assertEquals("HARD", GridGenerator.difficultyFor(256, 164));
+    assertEquals("EXPERT", GridGenerator.difficultyFor(81, 58));
+  }
+
+  @Test
+  void should_removeRequestedCells_when_uniquenessAllows() {
+    GridGeometry geometry = GridGeometry.of(4);
+    GridGenerator generator = new GridGenerator(geometry, new Random(3));
+    int[] board = generator.generateCompleteBoard();
+
+    int[] puzzle = generator.removeCells(board, 60);
+
+    int removed = 0;
+    for (int i = 0; i < puzzle.length; i++) {
+      if (puzzle[i] == 0) {
+        removed++;
+      } else {
+        assertEquals(board[i], puzzle[i]);
+      }
+    }
+    assertEquals(60, removed);
+    assertTrue(GridSolver.hasUniqueSolution(puzzle, geometry, SearchLimits.UNLIMITED));
+  }
+
+  @Test
+  void should_throwException_when_boardHasMultipleSolutions() {
+    GridGeometry geometry = GridGeometry.of(4);
+    GridGenerator generator = new GridGenerator(geometry, new Random(1));
+
+    assertThrows(IllegalArgumentException.class, () -> generator.removeCells(new int[geometry.getCells()], 10));
+  }
+
+  @Test
+  void should_returnNull_when_difficultyIsUnknown() {
+    GridGenerator generator = new GridGenerator(GridGeometry.of(4), new Random(1));
+
+    assertNull(generator.generatePuzzle("IMPOSSIBLE"));
+  }
+}
@@ -0,0 +1,115 @@
+package com.sudoku.solver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sudoku.validator.GridBoardValidator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class GridSolverTest {
+
+  private static final String HARD_PUZZLE =
+      "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+  @Test
+  void should_matchPropagatingSolver_when_solvingNineByNine() {
+    int[] expected = parse(HARD_PUZZLE);
+    int[] actual = parse(HARD_PUZZLE);
+
+    SudokuSolver.solve(expected, SolverEngine.PROPAGATING, SearchLimits.UNLIMITED);
+    SearchResult result = GridSolver.solve(actual, GridGeometry.of(3));
+
+    assertTrue(result.isSolved());
+    assertArrayEquals(expected, actual);
+  }
+
+  @Test
+  void should_solveAndKeepGivens_when_gridIsSixteenBySixteen() {
+    GridGeometry geometry = GridGeometry.of(4);
+    int[] puzzle = new GridGenerator(geometry, new Random(7)).generatePuzzle("MEDIUM");
+    int[] board = puzzle.clone();
+
+    SearchResult result = GridSolver.solve(board, geometry);
+
+    assertTrue(result.isSolved());
+    assertTrue(GridBoardValidator.isComplete(board, geometry));
+    for (int i = 0; i < puzzle.length; i++) {
+      if (puzzle[i] != 0) {
+        assertEquals(puzzle[i], board[i]);
+      }
+    }
+  }
+
+  @Test
+  void should_solveEmptyBoard_when_gridIsTwentyFiveByTwentyFive() {
+    GridGeometry geometry = GridGeometry.of(5);
+    int[] board = new int[geometry.getCells()];
+
+    SearchResult result = GridSolver.solve(board, geometry);
+
+    assertTrue(result.isSolved());
+    assertTrue(GridBoardValidator.isComplete(board, geometry));
+  }
+
+  @Test
+  void should_stopAtMaxCount_when_boardIsEmpty() {
+    GridGeometry geometry = GridGeometry.of(4);
+
+    SearchResult result = GridSolver.countSolutions(new int[geometry.getCells()], geometry, 2,
+        SearchLimits.UNLIMITED);
+
+    assertEquals(2, result.getSolutions());
+    assertFalse(result.isUnique());
+  }
+
+  @Test
+  void should_reportNoSolution_when_givensConflict() {
+    GridGeometry geometry = GridGeometry.of(4);
+    int[] board = new int[geometry.getCells()];
+    board[0] = 16;
+    board[geometry.getSize() + 1] = 16;
+
+    assertFalse(GridSolver.solve(board, geometry).isSolved());
+    assertEquals(0, GridSolver.countSolutions(board, geometry, 2, SearchLimits.UNLIMITED).getSolutions());
+  }
+
+  @Test
+  void should_reportNoSolution_when_boardSizeDoesNotMatchGeometry() {
+    assertFalse(GridSolver.solve(new int[81], GridGeometry.of(4)).isSolved());
+  }
+
+  @Test
+  void should_abortSearch_when_nodeLimitIsReached() {
+    GridGeometry geometry = GridGeometry.of(5);
+
+    SearchResult result = GridSolver.countSolutions(new int[geometry.getCells()], geometry, 2,
+        SearchLimits.of(10, null));
+
+    assertTrue(result.isAborted());
+    assertEquals(SearchResult.Status.NODE_LIMIT_EXCEEDED, result.getStatus());
+  }
+
+  @Test
+  void should_buildPeerTables_when_geometryIsCreated() {
+    GridGeometry geometry = GridGeometry.of(4);
+
+    assertEquals(256, geometry.getCells());
+    assertEquals(39, geometry.getGraph().peersOf(0).length);
+    assertEquals(48, geometry.getGraph().getUnits().length);
+    assertEquals(geometry, GridGeometry.forCells(256));
+    assertThrows(IllegalArgumentException.class, () -> GridGeometry.of(7));
+    assertThrows(IllegalArgumentException.class, () -> GridGeometry.forCells(100));
+  }
+
+  private static int[] parse(String puzzle) {
+    int[] board = new int[puzzle.length()];
+    for (int i = 0; i < board.length; i++) {
+      board[i] = puzzle.charAt(i) - '0';
+    }
+    return board;
+  }
+}
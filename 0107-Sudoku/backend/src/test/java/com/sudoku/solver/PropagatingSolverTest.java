@@ -0,0 +1,111 @@
+package com.sudoku.solver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sudoku.validator.SudokuBoardValidator;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PropagatingSolverTest {
+
+  private static final int BOARDS = 200;
+  private static final String HARD_PUZZLE =
+      "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+  private final Random random = new Random(42);
+  private final SolverEngine previousEngine = SudokuSolver.getEngine();
+
+  @AfterEach
+  void tearDown() {
+    SudokuSolver.setEngine(previousEngine);
+  }
+
+  @Test
+  void should_matchScanningEngine_when_countingSolutions() {
+    for (int i = 0; i < BOARDS; i++) {
+      int[] board = randomBoard();
+
+      for (int maxCount : new int[] {1, 2, 5}) {
+        int expected = countSolutions(board.clone(), maxCount, SolverEngine.SCANNING);
+        int actual = countSolutions(board.clone(), maxCount, SolverEngine.PROPAGATING);
+        assertEquals(expected, actual);
+      }
+    }
+  }
+
+  @Test
+  void should_matchScanningEngine_when_solvingUniquePuzzle() {
+    for (int i = 0; i < BOARDS; i++) {
+      int[] board = randomBoard();
+      int[] scanned = board.clone();
+      int[] propagated = board.clone();
+
+      boolean expected = solve(scanned, SolverEngine.SCANNING);
+      boolean actual = solve(propagated, SolverEngine.PROPAGATING);
+
+      assertEquals(expected, actual);
+      if (SudokuSolver.hasUniqueSolution(board)) {
+        assertArrayEquals(scanned, propagated);
+      } else if (actual) {
+        assertTrue(SudokuBoardValidator.isValidBoard(propagated));
+      }
+    }
+  }
+
+  @Test
+  void should_exploreFewerNodes_when_solvingHardPuzzle() {
+    int[] bitboard = parse(HARD_PUZZLE);
+    int[] propagated = parse(HARD_PUZZLE);
+
+    SearchResult bitboardResult = SudokuSolver.solve(bitboard, SolverEngine.BITBOARD, SearchLimits.UNLIMITED);
+    SearchResult propagatingResult = SudokuSolver.solve(propagated, SolverEngine.PROPAGATING, SearchLimits.UNLIMITED);
+
+    assertTrue(bitboardResult.isSolved());
+    assertTrue(propagatingResult.isSolved());
+    assertArrayEquals(bitboard, propagated);
+    assertTrue(propagatingResult.getNodes() * 10 < bitboardResult.getNodes());
+  }
+
+  @Test
+  void should_findNoSolution_when_givensConflict() {
+    int[] board = parse(HARD_PUZZLE);
+    board[1] = 8;
+
+    assertFalse(solve(board.clone(), SolverEngine.PROPAGATING));
+    assertEquals(0, countSolutions(board, 2, SolverEngine.PROPAGATING));
+  }
+
+  @Test
+  void should_useBitboardTechniques_when_usingPropagatingEngine() {
+    SudokuSolver.setEngine(SolverEngine.PROPAGATING);
+    int[] board = parse(HARD_PUZZLE);
+
+    assertTrue(SudokuSolver.hasUniqueSolution(board));
+    assertEquals("EXPERT", SudokuSolver.getDifficulty(board));
+  }
+
+  private int countSolutions(int[] board, int maxCount, SolverEngine engine) {
+    return SudokuSolver.countSolutions(board, maxCount, engine, SearchLimits.UNLIMITED).getSolutions();
+  }
+
+  private boolean solve(int[] board, SolverEngine engine) {
+    return SudokuSolver.solve(board, engine, SearchLimits.UNLIMITED).isSolved();
+  }
+
+  private int[] randomBoard() {
+    int[] board = SudokuSolver.generateCompleteBoard();
+    return SudokuSolver.removeCells(board, 40 + random.nextInt(30));
+  }
+
+  private int[] parse(String puzzle) {
+    int[] board = new int[81];
+    for (int i = 0; i < board.length; i++) {
+      board[i] = puzzle.charAt(i) - '0';
+    }
+    return board;
+  }
+}
@@ -1,5 +1,8 @@
 package com.sudoku.solver;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -989,4 +992,84 @@ class SudokuSolverTest {
       }
     }
   }
+
+  @Test
+  void should_recordGenerationAttemptsAndTechniqueTimings_when_generatingPuzzle() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    try {
+      int[] puzzle = SudokuSolver.generatePuzzle("EASY");
+
+      double attempts = registry.get("sudoku.solver.generation.attempts")
+          .tag("difficulty", "EASY").counter().count();
+      assertTrue(attempts >= 1 && attempts <= 10);
+      String outcome = puzzle != null ? "success" : "failure";
+      assertEquals(1, registry.get("sudoku.solver.generate")
+          .tags("difficulty", "EASY", "outcome", outcome).timer().count());
+
+      int[] board = SudokuSolver.removeCells(createValidCompleteBoard(), 30);
+      for (int i = 0; i < SolverMetrics.TECHNIQUE_SAMPLE_INTERVAL; i++) {
+        SudokuSolver.getDifficulty(board);
+      }
+      assertTrue(registry.get("sudoku.solver.technique").tag("technique", "naked_single").timers().stream()
+          .mapToLong(timer -> timer.count()).sum() > 0);
+    } finally {
+      Metrics.removeRegistry(registry);
+    }
+  }
+
+  @Test
+  void should_reportSearchStatistics_when_solvingWithinLimits() {
+    int[] board = SudokuSolver.removeCells(createValidCompleteBoard(), 50);
+
+    SearchResult result = SudokuSolver.solve(board, SearchLimits.of(1_000_000, Duration.ofSeconds(10)));
+
+    assertEquals(SearchResult.Status.COMPLETED, result.getStatus());
+    assertTrue(result.isSolved());
+    assertTrue(result.getNodes() > 0);
+    assertTrue(result.getMaxDepth() > 0);
+    assertTrue(result.getElapsedNanos() > 0);
+    assertBoardIsComplete(board);
+  }
+
+  @Test
+  void should_abortAndRestoreBoard_when_nodeBudgetExceeded() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+    try {
+      int[] board = new int[81];
+
+      SearchResult result = SudokuSolver.countSolutions(board, 2, SearchLimits.of(10, null));
+
+      assertEquals(SearchResult.Status.NODE_LIMIT_EXCEEDED, result.getStatus());
+      assertTrue(result.isAborted());
+      assertFalse(result.isUnique());
+      assertEquals(10, result.getNodes());
+      assertArrayEquals(new int[81], board);
+      assertEquals(1, registry.get("sudoku.solver.search.aborted")
+          .tag("reason", "node_limit_exceeded").counter().count());
+    } finally {
+      Metrics.removeRegistry(registry);
+    }
+  }
+
+  @Test
+  void should_abortSearch_when_timeBudgetExceeded() {
+    int[] board = new int[81];
+    board[0] = 1;
+    board[1] = 2;
+    board[9] = 3;
+
+    SearchResult result = SudokuSolver.countSolutions(
+        board, Integer.MAX_VALUE, SearchLimits.of(0, Duration.ofMillis(1)));
+
+    assertEquals(SearchResult.Status.TIME_LIMIT_EXCEEDED, result.getStatus());
+    assertTrue(result.getElapsedNanos() >= Duration.ofMillis(1).toNanos());
+  }
+
+  @Test
+  void should_returnEmptyResult_when_budgetedSearchGetsInvalidBoard() {
+    assertFalse(SudokuSolver.solve(null, SearchLimits.UNLIMITED).isSolved());
+    assertEquals(0, SudokuSolver.countSolutions(new int[80], 2, SearchLimits.UNLIMITED).getNodes());
+  }
 }
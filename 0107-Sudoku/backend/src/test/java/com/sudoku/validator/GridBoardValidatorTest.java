@@ -0,0 +1,127 @@
+package com.sudoku.validator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sudoku.solver.ConstraintGraph;
+import com.sudoku.solver.GridGeometry;
+import org.junit.jupiter.api.Test;
+
+class GridBoardValidatorTest {
+
+  private static final GridGeometry SIXTEEN = GridGeometry.of(4);
+
+  @Test
+  void should_returnFalse_when_boardIsNull() {
+    assertFalse(GridBoardValidator.isValidBoard(null, SIXTEEN));
+  }
+
+  @Test
+  void should_returnFalse_when_boardSizeDoesNotMatchGeometry() {
+    assertFalse(GridBoardValidator.isValidBoard(new int[81], SIXTEEN));
+  }
+
+  @Test
+  void should_returnFalse_when_cellValueIsOutOfRange() {
+    int[] board = new int[SIXTEEN.getCells()];
+    board[0] = 17;
+
+    assertFalse(GridBoardValidator.isValidBoard(board, SIXTEEN));
+  }
+
+  @Test
+  void should_returnTrue_when_boardIsEmpty() {
+    assertTrue(GridBoardValidator.isValidBoard(new int[SIXTEEN.getCells()], SIXTEEN));
+  }
+
+  @Test
+  void should_findBothCells_when_rowHasDuplicate() {
+    int[] board = new int[SIXTEEN.getCells()];
+    board[3] = 12;
+    board[15] = 12;
+
+    assertArrayEquals(new int[] {3, 15}, GridBoardValidator.findDuplicates(board, SIXTEEN));
+  }
+
+  @Test
+  void should_findBothCells_when_columnHasDuplicate() {
+    int[] board = new int[SIXTEEN.getCells()];
+    board[5] = 16;
+    board[15 * 16 + 5] = 16;
+
+    assertArrayEquals(new int[] {5, 245}, GridBoardValidator.findDuplicates(board, SIXTEEN));
+  }
+
+  @Test
+  void should_findBothCells_when_boxHasDuplicate() {
+    int[] board = new int[SIXTEEN.getCells()];
+    board[0] = 9;
+    board[3 * 16 + 3] = 9;
+
+    assertArrayEquals(new int[] {0, 51}, GridBoardValidator.findDuplicates(board, SIXTEEN));
+  }
+
+  @Test
+  void should_ignoreSameValue_when_cellsShareNoUnit() {
+    int[] board = new int[SIXTEEN.getCells()];
+    board[0] = 4;
+    board[5 * 16 + 5] = 4;
+
+    assertEquals(0, GridBoardValidator.findDuplicates(board, SIXTEEN).length);
+  }
+
+  @Test
+  void should_returnFalse_when_boardHasEmptyCells() {
+    int[] board = new int[SIXTEEN.getCells()];
+
+    assertFalse(GridBoardValidator.isComplete(board, SIXTEEN));
+  }
+
+  @Test
+  void should_returnTrue_when_patternBoardIsFilled() {
+    int size = SIXTEEN.getSize();
+    int[] board = new int[SIXTEEN.getCells()];
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < size; col++) {
+        board[row * size + col] = (4 * (row % 4) + row / 4 + col) % size + 1;
+      }
+    }
+
+    assertTrue(GridBoardValidator.isComplete(board, SIXTEEN));
+  }
+
+  @Test
+  void should_findDiagonalDuplicate_when_graphHasDiagonalUnits() {
+    GridGeometry nine = GridGeometry.of(3);
+    int[] board = new int[nine.getCells()];
+    board[0] = 5;
+    board[80] = 5;
+
+    assertEquals(0, GridBoardValidator.findDuplicates(board, nine).length);
+    assertArrayEquals(new int[] {0, 80}, GridBoardValidator.findDuplicates(board, ConstraintGraph.diagonal(nine)));
+  }
+
+  @Test
+  void should_reportBrokenCage_when_sumExceedsTarget() {
+    ConstraintGraph graph = ConstraintGraph.builder(9).rows().columns().cage(10, 0, 1, 2).cage(6, 9, 10).build();
+    int[] board = new int[81];
+    board[0] = 9;
+    board[1] = 2;
+    board[9] = 1;
+
+    assertArrayEquals(new int[] {0}, GridBoardValidator.findBrokenCages(board, graph));
+    assertFalse(GridBoardValidator.isValidBoard(board, graph));
+  }
+
+  @Test
+  void should_findCageDuplicate_when_cageSpansTwoRows() {
+    ConstraintGraph graph = ConstraintGraph.builder(9).rows().columns().cage(7, 1, 9).build();
+    int[] board = new int[81];
+    board[1] = 3;
+    board[9] = 3;
+
+    assertArrayEquals(new int[] {1, 9}, GridBoardValidator.findDuplicates(board, graph));
+  }
+}
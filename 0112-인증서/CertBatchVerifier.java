@@ -0,0 +1,250 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+// 여러 인증서 체인 일괄 검증
+// 디렉토리(하위 포함 *.pem, *.crt, *.cer) 또는 매니페스트(한 줄에 파일 하나)를 받아
+// 워커 스레드에서 병렬로 검증하고, 체인마다 한 줄씩 결과를 출력한다.
+// Trust Store 인덱스와 서명 검증 캐시는 모든 워커가 공유한다.
+// 체인 파일에 빠진 중간 인증서는 실행 전에 읽은 중간 인증서 묶음(--intermediates)에서만 찾으므로
+// 결과는 검증 순서나 스레드 수와 관계없이 같다.
+public class CertBatchVerifier {
+
+    enum Status { OK, UNTRUSTED, INVALID, ERROR }
+
+    record Result(Path file, Status status, int certCount, String detail, long nanos) {}
+
+    // 체인 검증 결과: 신뢰되면 루트 alias, 아니면 실패 사유
+    private record Outcome(String rootAlias, String failure) {}
+
+    private final TrustAnchorIndex anchors;
+    private final List<X509Certificate> intermediates;
+    private final VerifiedLinkCache links = new VerifiedLinkCache();
+
+    CertBatchVerifier(TrustAnchorIndex anchors, List<X509Certificate> intermediates) {
+        this.anchors = anchors;
+        this.intermediates = List.copyOf(intermediates);
+    }
+
+    public static void run(Path target, int threads, Path indexFile, List<X509Certificate> intermediates,
+            RecordWriter.Format format) throws Exception {
+        run(collectFiles(target), threads, indexFile, intermediates, format);
+    }
+
+    // format이 있으면 결과는 표준 출력에 레코드로, 요약은 표준 에러로 (파이프라인에 요약이 섞이지 않게)
+    public static void run(List<Path> files, int threads, Path indexFile, List<X509Certificate> intermediates,
+            RecordWriter.Format format) throws Exception {
+        PrintStream report = format == null ? System.out : System.err;
+        long indexStart = System.nanoTime();
+        TrustAnchorIndex index = TrustAnchorIndex.load(TrustAnchorIndex.defaultCacertsPath(), indexFile);
+        long indexMicros = (System.nanoTime() - indexStart) / 1000;
+
+        CertBatchVerifier verifier = new CertBatchVerifier(index, intermediates);
+        Map<Status, Integer> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, 0);
+        }
+        long certs = 0;
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        RecordWriter records = format == null ? null
+                : RecordWriter.stdout(format, "file", "status", "certs", "millis", "root", "reason");
+        try {
+            ExecutorCompletionService<Result> completion = new ExecutorCompletionService<>(pool);
+            for (Path file : files) {
+                completion.submit(() -> verifier.verify(file));
+            }
+            // 끝난 순서대로 한 줄씩 출력 (출력은 메인 스레드에서만)
+            for (int i = 0; i < files.size(); i++) {
+                Result result = completion.take().get();
+                counts.merge(result.status(), 1, Integer::sum);
+                certs += result.certCount();
+                if (records == null) {
+                    System.out.println(format(result));
+                } else {
+                    boolean ok = result.status() == Status.OK;
+                    records.write(result.file().toString(), result.status().name(), result.certCount(),
+                            Math.round(result.nanos() / 1e3) / 1e3, ok ? result.detail() : null, ok ? null : result.detail());
+                }
+            }
+        } finally {
+            pool.shutdown();
+            if (records != null) {
+                records.close();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+
+        report.println();
+        report.println("=== 일괄 검증 결과 ===");
+        report.println("체인 " + files.size() + "개 (인증서 " + certs + "개), 스레드 " + threads + "개");
+        StringBuilder summary = new StringBuilder();
+        for (Map.Entry<Status, Integer> entry : counts.entrySet()) {
+            summary.append(summary.length() == 0 ? "" : " / ").append(entry.getKey()).append(' ').append(entry.getValue());
+        }
+        report.println(summary);
+        report.printf(Locale.ROOT, "소요 시간: %.1f ms, 처리량: %.1f 체인/초, %.1f 인증서/초%n",
+                elapsedNanos / 1e6, files.size() / seconds, certs / seconds);
+        report.println("Trust Store 인덱스 로드: " + indexMicros + " us"
+                + (index.isFromCache() ? " (캐시 사용)" : " (cacerts 파싱)"));
+        if (!intermediates.isEmpty()) {
+            report.println("중간 인증서 묶음: " + intermediates.size() + "개");
+        }
+        report.println("서명 검증 캐시: 링크 " + verifier.links.size() + "개, 적중 " + verifier.links.getHits()
+                + "회, 미스 " + verifier.links.getMisses() + "회 (리프 서명 " + verifier.links.getUncached() + "회는 캐시 제외)");
+    }
+
+    Result verify(Path file) {
+        long start = System.nanoTime();
+        List<X509Certificate> chain;
+        try {
+            chain = CertVerifier.parseCertificates(file);
+        } catch (FileSystemException e) {
+            return new Result(file, Status.ERROR, 0, "읽기 실패: " + e, System.nanoTime() - start);
+        } catch (Exception e) {
+            return new Result(file, Status.ERROR, 0, "파싱 실패: " + e.getMessage(), System.nanoTime() - start);
+        }
+        if (chain.isEmpty()) {
+            return new Result(file, Status.ERROR, 0, "인증서 없음", System.nanoTime() - start);
+        }
+
+        Status status;
+        String detail;
+        try {
+            Outcome outcome = verifyChain(chain);
+            status = outcome.failure() == null ? Status.OK : Status.UNTRUSTED;
+            detail = outcome.failure() == null ? outcome.rootAlias() : outcome.failure();
+        } catch (GeneralSecurityException e) {
+            status = Status.INVALID;
+            detail = e.getMessage();
+        }
+        return new Result(file, status, chain.size(), detail, System.nanoTime() - start);
+    }
+
+    // 파일 안의 리프(다른 인증서를 발급하지 않은 인증서)마다 신뢰 경로가 있어야 OK
+    // 파일 순서와 관계없이 리프를 찾으므로 루트가 먼저 나와도 같은 결과
+    private Outcome verifyChain(List<X509Certificate> chain) throws GeneralSecurityException {
+        Outcome trusted = null;
+        for (List<List<X509Certificate>> paths : new ChainBuilder(chain, intermediates).buildAll().values()) {
+            Outcome outcome = verifyLeaf(paths);
+            if (outcome.failure() != null) {
+                return outcome;
+            }
+            if (trusted == null) {
+                trusted = outcome;
+            }
+        }
+        return trusted;
+    }
+
+    // ChainBuilder가 만든 경로(교차 서명이면 여러 개) 중 하나라도 신뢰되면 OK
+    // 모두 실패하면 첫 서명 오류를 던지고, 서명 오류가 없으면 첫 실패 사유를 반환
+    private Outcome verifyLeaf(List<List<X509Certificate>> paths) throws GeneralSecurityException {
+        Outcome failure = null;
+        GeneralSecurityException error = null;
+        for (List<X509Certificate> path : paths) {
+            try {
+                Outcome outcome = verifyPath(path);
+                if (outcome.failure() == null) {
+                    return outcome;
+                }
+                if (failure == null) {
+                    failure = outcome;
+                }
+            } catch (GeneralSecurityException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return failure;
+    }
+
+    // 리프부터 경로를 따라 올라가며 서명 검증
+    private Outcome verifyPath(List<X509Certificate> path) throws GeneralSecurityException {
+        for (int i = 0; i < path.size(); i++) {
+            X509Certificate current = path.get(i);
+            if (ChainBuilder.isSelfIssued(current)) {
+                links.verify(current, current.getPublicKey());
+                TrustAnchorIndex.Anchor anchor = anchors.findSelf(current);
+                // 공개키까지 같은 Trust Store 루트만 인정 (DN만 같은 자체 서명 인증서는 신뢰하지 않음)
+                if (anchor == null) {
+                    return new Outcome(null, "Trust Store에 없는 루트: "
+                            + ChainBuilder.commonName(current.getSubjectX500Principal()));
+                }
+                return new Outcome(anchor.getAlias(), null);
+            }
+
+            // 발급자가 Trust Store 루트면 여기서 끝
+            TrustAnchorIndex.Anchor anchor = anchors.findIssuer(current);
+            if (anchor != null) {
+                links.verify(current, anchor.getCertificate().getPublicKey());
+                return new Outcome(anchor.getAlias(), null);
+            }
+
+            // 경로의 다음 인증서가 발급자
+            if (i + 1 >= path.size()) {
+                return new Outcome(null, "발급자 인증서 없음: "
+                        + ChainBuilder.commonName(current.getIssuerX500Principal()));
+            }
+            links.verify(current, path.get(i + 1).getPublicKey());
+        }
+        return new Outcome(null, "체인이 너무 깊음");
+    }
+
+    private static String format(Result result) {
+        return String.format(Locale.ROOT, "%-9s %2d %9.2f ms  %s  %s", result.status(), result.certCount(),
+                result.nanos() / 1e6, result.file(), result.detail());
+    }
+
+    // 디렉토리면 하위의 인증서 파일, 아니면 매니페스트에 적힌 파일들
+    static List<Path> collectFiles(Path target) throws IOException {
+        return Files.isDirectory(target) ? walk(target) : readManifest(target);
+    }
+
+    private static List<Path> walk(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(path -> {
+                        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+                        return name.endsWith(".pem") || name.endsWith(".crt") || name.endsWith(".cer");
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    // 매니페스트: 한 줄에 PEM 파일 경로 하나, 빈 줄과 #으로 시작하는 줄은 무시
+    // 상대 경로는 매니페스트 파일 위치 기준
+    private static List<Path> readManifest(Path manifest) throws IOException {
+        Path base = manifest.toAbsolutePath().getParent();
+        List<Path> files = new ArrayList<>();
+        for (String line : Files.readAllLines(manifest)) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                files.add(base.resolve(line));
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,270 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+// 인증서 파싱/검증 단계별 마이크로 벤치마크
+// 빌드 도구 없이 javac만으로 돌릴 수 있도록 JMH 대신 직접 만든 하네스를 쓴다.
+// (워밍업 후 정해진 시간 동안 반복 실행, 라운드별 op당 시간의 중앙값/최소/최대를 출력,
+//  결과는 sink 필드에 모아 JIT가 계산을 없애지 못하게 함)
+// 픽스처: dj.pem + 고정 시드로 생성한 RSA-2048/4096, EC P-256 자체 서명 인증서 (오프라인 재현 가능)
+public class CertBenchmark {
+
+    private static final long SEED = 20240112L;
+
+    // sun.security.x509 같은 내부 API 없이 인증서를 만들기 위한 최소 DER 상수
+    private static final byte[] OID_CN = {0x06, 0x03, 0x55, 0x04, 0x03};
+    private static final byte[] SHA256_WITH_RSA = {0x30, 0x0D, 0x06, 0x09, 0x2A, (byte) 0x86, 0x48, (byte) 0x86,
+            (byte) 0xF7, 0x0D, 0x01, 0x01, 0x0B, 0x05, 0x00};
+    private static final byte[] ECDSA_WITH_SHA256 = {0x30, 0x0A, 0x06, 0x08, 0x2A, (byte) 0x86, 0x48, (byte) 0xCE,
+            0x3D, 0x04, 0x03, 0x02};
+
+    private static volatile int sink;
+
+    public static void main(String[] args) throws Exception {
+        double seconds = args.length >= 1 ? Double.parseDouble(args[0]) : 1.0;
+        int rounds = args.length >= 2 ? Integer.parseInt(args[1]) : 5;
+        String filter = args.length >= 3 ? args[2] : "";
+
+        // === 픽스처 준비 ===
+        Path pemFile = Path.of("dj.pem");
+        byte[] pemBytes = Files.readAllBytes(pemFile);
+        String pemText = new String(pemBytes, StandardCharsets.US_ASCII);
+        List<X509Certificate> chain = PemReader.readCertificates(pemFile);
+        byte[] leafDer = chain.get(0).getEncoded();
+        String leafBase64 = Base64.getMimeEncoder().encodeToString(leafDer);
+        CertificateFactory factory = CertificateFactory.getInstance("X.509");
+
+        SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+        random.setSeed(SEED);
+        X509Certificate rsa2048 = selfSigned("RSA-2048", rsaKeys(2048, random), "SHA256withRSA", SHA256_WITH_RSA);
+        X509Certificate rsa4096 = selfSigned("RSA-4096", rsaKeys(4096, random), "SHA256withRSA", SHA256_WITH_RSA);
+        X509Certificate ecP256 = selfSigned("EC P-256", ecKeys(random), "SHA256withECDSA", ECDSA_WITH_SHA256);
+
+        Path cacerts = TrustAnchorIndex.defaultCacertsPath();
+        Path indexFile = Files.createTempFile("cert-bench", ".idx");
+        TrustAnchorIndex.build(cacerts, "changeit".toCharArray()).save(indexFile, cacerts);
+        X509Certificate root = chain.get(chain.size() - 1);
+
+        Map<String, Callable<Object>> benchmarks = new LinkedHashMap<>();
+        benchmarks.put("pem.extract.string", () -> extractWithString(pemText));
+        benchmarks.put("pem.extract.reader", () -> {
+            PemReader reader = new PemReader(ByteBuffer.wrap(pemBytes));
+            int total = 0;
+            while (reader.next()) {
+                total += reader.length();
+            }
+            return total;
+        });
+        benchmarks.put("base64.decode.mime", () -> Base64.getMimeDecoder().decode(leafBase64));
+        // CertificateFactory는 같은 인코딩의 인증서를 캐시하므로 서명 끝 4바이트를 바꿔 매번 다른 입력으로
+        int[] counter = {0};
+        benchmarks.put("der.generateCertificate", () ->
+                factory.generateCertificate(new ByteArrayInputStream(uniqueCopy(leafDer, counter[0]++))));
+        benchmarks.put("der.generateCertificate.cached", () ->
+                factory.generateCertificate(new ByteArrayInputStream(leafDer)));
+        benchmarks.put("der.copy.baseline", () -> uniqueCopy(leafDer, counter[0]++));
+        benchmarks.put("der.notAfter.fast", () -> CertExpiryScanner.notAfterMillis(leafDer, leafDer.length));
+        // X509Certificate.verify()는 마지막으로 검증한 공개키를 기억해서 두 번째부터는 바로 반환하므로
+        // 실제 서명 연산은 Signature로 직접 측정
+        benchmarks.put("verify.dj.leaf.rsa2048", verifier(chain.get(0), chain.get(1)));
+        benchmarks.put("verify.dj.intermediate.rsa4096", verifier(chain.get(1), root));
+        benchmarks.put("verify.rsa2048", verifier(rsa2048, rsa2048));
+        benchmarks.put("verify.rsa4096", verifier(rsa4096, rsa4096));
+        benchmarks.put("verify.ecP256", verifier(ecP256, ecP256));
+        benchmarks.put("verify.x509.repeat", () -> {
+            chain.get(0).verify(chain.get(1).getPublicKey());
+            return chain.get(0);
+        });
+        VerifiedLinkCache links = new VerifiedLinkCache();
+        // 캐시는 CA 인증서만 대상이므로 dj.pem의 중간 → 루트 링크로 측정
+        benchmarks.put("verify.cached.dj.intermediate", () -> {
+            links.verify(chain.get(1), root.getPublicKey());
+            return links.getHits();
+        });
+        benchmarks.put("truststore.keystore.load", () -> {
+            KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            try (InputStream in = Files.newInputStream(cacerts)) {
+                keyStore.load(in, "changeit".toCharArray());
+            }
+            return keyStore.size();
+        });
+        // CertVerifier와 같은 경로: cacerts를 읽어 SHA-256을 비교한 뒤 인덱스 매핑
+        benchmarks.put("truststore.index.load", () -> TrustAnchorIndex.load(cacerts, indexFile).size());
+        benchmarks.put("truststore.index.load+find", () ->
+                TrustAnchorIndex.load(cacerts, indexFile).findSelf(root).getCertificate());
+
+        System.out.println("=== 인증서 벤치마크 ===");
+        System.out.printf(Locale.ROOT, "라운드 %d회 x %.1f초, 워밍업 %.1f초, Java %s%n%n", rounds, seconds, seconds,
+                System.getProperty("java.version"));
+        System.out.printf("%-30s %12s %12s %12s %14s%n", "benchmark", "us/op (중앙)", "최소", "최대", "ops/s");
+        try {
+            for (Map.Entry<String, Callable<Object>> entry : benchmarks.entrySet()) {
+                if (entry.getKey().contains(filter)) {
+                    run(entry.getKey(), entry.getValue(), seconds, rounds);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(indexFile);
+        }
+    }
+
+    private static void run(String name, Callable<Object> op, double seconds, int rounds) throws Exception {
+        long roundNanos = (long) (seconds * 1e9);
+        measure(op, roundNanos); // 워밍업
+        double[] microsPerOp = new double[rounds];
+        for (int r = 0; r < rounds; r++) {
+            microsPerOp[r] = measure(op, roundNanos);
+        }
+        double[] sorted = microsPerOp.clone();
+        Arrays.sort(sorted);
+        double median = sorted[rounds / 2];
+        System.out.printf(Locale.ROOT, "%-30s %12.3f %12.3f %12.3f %14.0f%n", name, median, sorted[0],
+                sorted[rounds - 1], 1e6 / median);
+    }
+
+    // 정해진 시간 동안 반복 실행하고 op당 마이크로초 반환 (시간 확인은 배치마다 한 번)
+    private static double measure(Callable<Object> op, long durationNanos) throws Exception {
+        long ops = 0;
+        int batch = 1;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < batch; i++) {
+                Object result = op.call();
+                sink += result == null ? 0 : result.hashCode();
+            }
+            ops += batch;
+            elapsed = System.nanoTime() - start;
+            if (batch < 1024 && elapsed < durationNanos / 100) {
+                batch *= 2;
+            }
+        } while (elapsed < durationNanos);
+        return elapsed / 1e3 / ops;
+    }
+
+    private static Callable<Object> verifier(X509Certificate cert, X509Certificate issuer) throws Exception {
+        byte[] tbs = cert.getTBSCertificate();
+        byte[] signature = cert.getSignature();
+        return () -> {
+            Signature verifier = Signature.getInstance(cert.getSigAlgName());
+            verifier.initVerify(issuer.getPublicKey());
+            verifier.update(tbs);
+            if (!verifier.verify(signature)) {
+                throw new IllegalStateException("서명 검증 실패: " + cert.getSubjectX500Principal());
+            }
+            return verifier;
+        };
+    }
+
+    // 파싱은 서명을 검증하지 않으므로 서명값 끝 4바이트만 바꿔도 올바른 입력
+    private static byte[] uniqueCopy(byte[] der, int counter) {
+        byte[] copy = der.clone();
+        int end = copy.length;
+        copy[end - 4] = (byte) (counter >>> 24);
+        copy[end - 3] = (byte) (counter >>> 16);
+        copy[end - 2] = (byte) (counter >>> 8);
+        copy[end - 1] = (byte) counter;
+        return copy;
+    }
+
+    // 예전 방식: 파일 전체 String + indexOf + 정규식 공백 제거 + Base64 디코딩
+    private static int extractWithString(String pemContent) {
+        String begin = "-----BEGIN CERTIFICATE-----";
+        String end = "-----END CERTIFICATE-----";
+        int total = 0;
+        int start = 0;
+        while ((start = pemContent.indexOf(begin, start)) != -1) {
+            int stop = pemContent.indexOf(end, start);
+            if (stop == -1) {
+                break;
+            }
+            String base64 = pemContent.substring(start + begin.length(), stop).replaceAll("\\s", "");
+            total += Base64.getDecoder().decode(base64).length;
+            start = stop + end.length();
+        }
+        return total;
+    }
+
+    private static KeyPair rsaKeys(int bits, SecureRandom random) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(bits, random);
+        return generator.generateKeyPair();
+    }
+
+    private static KeyPair ecKeys(SecureRandom random) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"), random);
+        return generator.generateKeyPair();
+    }
+
+    // TBSCertificate를 직접 DER로 만들어 서명한 자체 서명 인증서 (유효기간 고정)
+    private static X509Certificate selfSigned(String cn, KeyPair keys, String algorithm, byte[] algorithmId)
+            throws Exception {
+        byte[] name = der(0x30, der(0x31, der(0x30, OID_CN, der(0x0C, cn.getBytes(StandardCharsets.UTF_8)))));
+        byte[] validity = der(0x30,
+                der(0x17, "250101000000Z".getBytes(StandardCharsets.US_ASCII)),
+                der(0x17, "350101000000Z".getBytes(StandardCharsets.US_ASCII)));
+        byte[] tbs = der(0x30,
+                der(0xA0, der(0x02, new byte[] {0x02})), // version v3
+                der(0x02, new byte[] {0x01}),            // serialNumber
+                algorithmId, name, validity, name,
+                keys.getPublic().getEncoded());          // SubjectPublicKeyInfo
+
+        Signature signer = Signature.getInstance(algorithm);
+        signer.initSign(keys.getPrivate());
+        signer.update(tbs);
+        byte[] signature = signer.sign();
+        byte[] bitString = new byte[signature.length + 1];
+        System.arraycopy(signature, 0, bitString, 1, signature.length);
+
+        byte[] der = der(0x30, tbs, algorithmId, der(0x03, bitString));
+        return (X509Certificate) CertificateFactory.getInstance("X.509")
+                .generateCertificate(new ByteArrayInputStream(der));
+    }
+
+    private static byte[] der(int tag, byte[]... parts) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            content.writeBytes(part);
+        }
+        int length = content.size();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length + 6);
+        out.write(tag);
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            List<Byte> bytes = new ArrayList<>();
+            for (int value = length; value > 0; value >>= 8) {
+                bytes.add(0, (byte) value);
+            }
+            out.write(0x80 | bytes.size());
+            for (byte b : bytes) {
+                out.write(b);
+            }
+        }
+        out.writeBytes(content.toByteArray());
+        return out.toByteArray();
+    }
+}
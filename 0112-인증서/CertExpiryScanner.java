@@ -0,0 +1,299 @@
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 많은 PEM 파일에서 만료가 임박한 인증서 찾기
+// 워커마다 파일을 하나씩 가져가 PemReader로 스트리밍하면서, DER에서 notAfter만 바로 읽어
+// 기준일 밖이면 X509Certificate를 만들지 않고 건너뛴다.
+// 기준일 안의 인증서는 워커별 크기 제한 우선순위 큐(만료가 가장 늦은 것이 머리)에 넣고
+// 마지막에 합쳐서 가장 빨리 만료되는 순으로 출력한다.
+public class CertExpiryScanner {
+
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    record Expiring(Path file, int index, X509Certificate cert, long notAfter, String fingerprint, int occurrences) {}
+
+    // 스레드 하나가 쓰는 결과 (동기화 없음)
+    private static final class WorkerResult {
+        final BoundedExpiryQueue queue;
+        long files;
+        long certs;
+        long matched;
+        long errors;
+
+        WorkerResult(int capacity) {
+            this.queue = new BoundedExpiryQueue(capacity);
+        }
+    }
+
+    public static void run(Path target, int days, int limit, int threads, RecordWriter.Format format)
+            throws Exception {
+        List<Path> files = CertBatchVerifier.collectFiles(target);
+        long cutoff = System.currentTimeMillis() + days * DAY_MILLIS;
+
+        long start = System.nanoTime();
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<WorkerResult>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> scan(files, next, cutoff, limit)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // 워커별 큐 합치기 (같은 인증서는 등장 횟수만 더함)
+        WorkerResult total = new WorkerResult(limit);
+        for (Future<WorkerResult> future : futures) {
+            WorkerResult result = future.get();
+            total.files += result.files;
+            total.certs += result.certs;
+            total.matched += result.matched;
+            total.errors += result.errors;
+            for (Expiring entry : result.queue.entries()) {
+                total.queue.offer(entry);
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        List<Expiring> expiring = total.queue.sorted();
+
+        long now = System.currentTimeMillis();
+        if (format != null) {
+            try (RecordWriter out = RecordWriter.stdout(format, "days_left", "not_after", "not_before", "subject",
+                    "issuer", "serial", "key_algorithm", "key_bits", "file", "index", "occurrences", "sha256")) {
+                for (Expiring entry : expiring) {
+                    X509Certificate cert = entry.cert();
+                    out.write(daysLeft(entry, now), cert.getNotAfter().toInstant().toString(),
+                            cert.getNotBefore().toInstant().toString(),
+                            cert.getSubjectX500Principal().getName(), cert.getIssuerX500Principal().getName(),
+                            cert.getSerialNumber().toString(16).toUpperCase(), cert.getPublicKey().getAlgorithm(),
+                            CertParser.keyBits(cert.getPublicKey()), entry.file().toString(), entry.index(),
+                            entry.occurrences(), entry.fingerprint());
+                }
+            }
+        } else {
+            System.out.println("=== " + days + "일 안에 만료되는 인증서 (빠른 순, 최대 " + limit + "개) ===");
+            for (Expiring entry : expiring) {
+                X509Certificate cert = entry.cert();
+                System.out.printf(Locale.ROOT, "%6d일  %s  %-40s  발급자: %-30s  %s %s  %s#%d%s%n",
+                        daysLeft(entry, now), cert.getNotAfter().toInstant(),
+                        ChainBuilder.commonName(cert.getSubjectX500Principal()),
+                        ChainBuilder.commonName(cert.getIssuerX500Principal()),
+                        cert.getPublicKey().getAlgorithm(), CertParser.keyBits(cert.getPublicKey()),
+                        entry.file(), entry.index(),
+                        entry.occurrences() > 1 ? " (외 " + (entry.occurrences() - 1) + "곳)" : "");
+            }
+            System.out.println();
+        }
+
+        // 기계가 읽는 출력이면 요약은 표준 에러로
+        PrintStream report = format == null ? System.out : System.err;
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        report.println("파일 " + total.files + "개, 인증서 " + total.certs + "개, 읽기 실패 " + total.errors
+                + "개, 스레드 " + threads + "개");
+        report.println("기준일 안 인증서 " + total.matched + "개 중 " + expiring.size() + "개 출력 (같은 인증서는 한 번)");
+        report.printf(Locale.ROOT, "소요 시간: %.1f ms, 처리량: %.0f 인증서/초%n", elapsedNanos / 1e6, total.certs / seconds);
+    }
+
+    private static WorkerResult scan(List<Path> files, AtomicInteger next, long cutoff, int limit)
+            throws NoSuchAlgorithmException {
+        WorkerResult result = new WorkerResult(limit);
+        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        for (int i = next.getAndIncrement(); i < files.size(); i = next.getAndIncrement()) {
+            Path file = files.get(i);
+            result.files++;
+            try {
+                PemReader reader = PemReader.open(file);
+                for (int index = 0; reader.next(); index++) {
+                    result.certs++;
+                    long notAfter = notAfterMillis(reader.buffer(), reader.length());
+                    if (notAfter > cutoff) {
+                        continue;
+                    }
+                    // 이미 큐에 있는 인증서면 횟수만 늘리고, 처음 보는 것만 전체 파싱
+                    // (날짜를 못 읽었으면 여기서 다시 확인)
+                    sha256.update(reader.buffer(), 0, reader.length());
+                    String fingerprint = Hex.encode(sha256.digest());
+                    if (result.queue.addOccurrence(fingerprint)) {
+                        result.matched++;
+                        continue;
+                    }
+                    X509Certificate cert = reader.certificate();
+                    notAfter = cert.getNotAfter().getTime();
+                    if (notAfter > cutoff) {
+                        continue;
+                    }
+                    result.matched++;
+                    result.queue.offer(new Expiring(file, index, cert, notAfter, fingerprint, 1));
+                }
+            } catch (Exception e) {
+                result.errors++;
+            }
+        }
+        return result;
+    }
+
+    private static long daysLeft(Expiring entry, long now) {
+        return Math.floorDiv(entry.notAfter() - now, DAY_MILLIS);
+    }
+
+    // Certificate ::= SEQUENCE { tbsCertificate SEQUENCE { [0] version?, serialNumber, signature,
+    //                            issuer, validity SEQUENCE { notBefore, notAfter }, ... } ... }
+    // notAfter까지만 TLV를 건너뛰며 읽는다. 형식이 예상과 다르면 0 (= 전체 파싱으로 확인)
+    static long notAfterMillis(byte[] der, int length) {
+        try {
+            int[] pos = {0};
+            if (der[pos[0]++] != 0x30) {
+                return 0;
+            }
+            readLength(der, pos);
+            if (der[pos[0]++] != 0x30) {
+                return 0;
+            }
+            readLength(der, pos);
+            if ((der[pos[0]] & 0xFF) == 0xA0) {
+                skip(der, pos);
+            }
+            skip(der, pos); // serialNumber
+            skip(der, pos); // signature
+            skip(der, pos); // issuer
+            if (der[pos[0]++] != 0x30) {
+                return 0;
+            }
+            readLength(der, pos);
+            skip(der, pos); // notBefore
+            int tag = der[pos[0]++];
+            int timeLength = readLength(der, pos);
+            if (pos[0] + timeLength > length) {
+                return 0;
+            }
+            String time = new String(der, pos[0], timeLength, StandardCharsets.US_ASCII);
+            return parseTime(tag, time);
+        } catch (ArrayIndexOutOfBoundsException | DateTimeParseException | NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // UTCTime: YYMMDDHHMMSSZ (YY < 50이면 20YY), GeneralizedTime: YYYYMMDDHHMMSSZ
+    private static long parseTime(int tag, String time) {
+        int year;
+        int offset;
+        if (tag == 0x17 && time.length() == 13) {
+            int yy = Integer.parseInt(time.substring(0, 2));
+            year = yy < 50 ? 2000 + yy : 1900 + yy;
+            offset = 2;
+        } else if (tag == 0x18 && time.length() == 15) {
+            year = Integer.parseInt(time.substring(0, 4));
+            offset = 4;
+        } else {
+            return 0;
+        }
+        if (time.charAt(time.length() - 1) != 'Z') {
+            return 0;
+        }
+        LocalDateTime dateTime = LocalDateTime.of(year,
+                Integer.parseInt(time.substring(offset, offset + 2)),
+                Integer.parseInt(time.substring(offset + 2, offset + 4)),
+                Integer.parseInt(time.substring(offset + 4, offset + 6)),
+                Integer.parseInt(time.substring(offset + 6, offset + 8)),
+                Integer.parseInt(time.substring(offset + 8, offset + 10)));
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static void skip(byte[] der, int[] pos) {
+        pos[0]++;
+        int length = readLength(der, pos);
+        pos[0] += length;
+    }
+
+    private static int readLength(byte[] der, int[] pos) {
+        int first = der[pos[0]++] & 0xFF;
+        if (first < 0x80) {
+            return first;
+        }
+        int length = 0;
+        for (int i = 0; i < (first & 0x7F); i++) {
+            length = (length << 8) | (der[pos[0]++] & 0xFF);
+        }
+        return length;
+    }
+
+    // 만료가 가장 빠른 capacity개만 유지하는 큐
+    // 머리에 만료가 가장 늦은 항목을 두고, 꽉 찼을 때 더 빠른 항목이 오면 머리를 밀어낸다.
+    // 같은 인증서(지문)는 한 번만 넣고 등장 횟수만 늘린다.
+    static final class BoundedExpiryQueue {
+
+        private final int capacity;
+        private final PriorityQueue<Expiring> heap =
+                new PriorityQueue<>(Comparator.comparingLong(Expiring::notAfter).reversed());
+        private final Map<String, Expiring> byFingerprint = new HashMap<>();
+
+        BoundedExpiryQueue(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(Expiring entry) {
+            if (addOccurrences(entry.fingerprint(), entry.occurrences())) {
+                return;
+            }
+            if (heap.size() >= capacity) {
+                if (capacity == 0 || entry.notAfter() >= heap.peek().notAfter()) {
+                    return;
+                }
+                byFingerprint.remove(heap.poll().fingerprint());
+            }
+            heap.add(entry);
+            byFingerprint.put(entry.fingerprint(), entry);
+        }
+
+        // 큐에 있는 인증서면 등장 횟수를 늘리고 true
+        boolean addOccurrence(String fingerprint) {
+            return addOccurrences(fingerprint, 1);
+        }
+
+        private boolean addOccurrences(String fingerprint, int count) {
+            Expiring existing = byFingerprint.get(fingerprint);
+            if (existing == null) {
+                return false;
+            }
+            // notAfter가 같으므로 힙 순서는 그대로, 항목만 교체
+            Expiring merged = new Expiring(existing.file(), existing.index(), existing.cert(),
+                    existing.notAfter(), fingerprint, existing.occurrences() + count);
+            heap.remove(existing);
+            heap.add(merged);
+            byFingerprint.put(fingerprint, merged);
+            return true;
+        }
+
+        List<Expiring> entries() {
+            return new ArrayList<>(heap);
+        }
+
+        // 만료가 빠른 순
+        List<Expiring> sorted() {
+            List<Expiring> sorted = new ArrayList<>(heap);
+            sorted.sort(Comparator.comparingLong(Expiring::notAfter));
+            return sorted;
+        }
+    }
+}
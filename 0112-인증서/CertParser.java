@@ -1,40 +1,62 @@
 import java.io.ByteArrayInputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.PublicKey;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 
 public class CertParser {
 
     public static void main(String[] args) throws Exception {
-        if (args.length < 1) {
-            System.out.println("Usage: java CertParser <pem파일> [인덱스]");
+        List<String> argList = new ArrayList<>(List.of(args));
+        RecordWriter.Format format = RecordWriter.formatOption(argList);
+        if (argList.isEmpty() || (argList.get(0).equals("--scan") && argList.size() < 2)) {
+            System.out.println("Usage: java CertParser <pem파일> [인덱스] [--format jsonl|csv]");
+            System.out.println("       java CertParser --scan <디렉토리|매니페스트> [일수] [최대개수] [스레드수] [--format jsonl|csv]");
             System.out.println("  인덱스 생략시 모든 인증서 출력");
+            System.out.println("  --format 지정시 인증서마다 한 줄(JSON Lines/CSV)로 출력");
+            System.out.println("  --scan: 일수(기본 30) 안에 만료되는 인증서를 빠른 순으로 최대개수(기본 100)만큼 출력");
             System.out.println("  예: java CertParser cert.pem 0");
             return;
         }
 
-        String pemFile = args[0];
-        Integer selectedIndex = (args.length >= 2) ? Integer.parseInt(args[1]) : null;
+        // 만료 임박 인증서 검색 모드
+        if (argList.get(0).equals("--scan")) {
+            int days = argList.size() >= 3 ? Integer.parseInt(argList.get(2)) : 30;
+            int limit = argList.size() >= 4 ? Integer.parseInt(argList.get(3)) : 100;
+            int threads = argList.size() >= 5 ? Integer.parseInt(argList.get(4)) : Runtime.getRuntime().availableProcessors();
+            CertExpiryScanner.run(Path.of(argList.get(1)), days, limit, threads, format);
+            return;
+        }
 
-        String content = Files.readString(Path.of(pemFile));
+        String pemFile = argList.get(0);
+        Integer selectedIndex = (argList.size() >= 2) ? Integer.parseInt(argList.get(1)) : null;
+
+        if (format != null) {
+            writeRecords(Path.of(pemFile), selectedIndex, format);
+            return;
+        }
 
         // === 1단계: PEM 파일 읽기 ===
+        // PemReader가 마커를 찾아 Base64를 바로 DER 바이트로 디코딩한다
         System.out.println("=== 1단계: PEM 파일 읽기 ===");
-        List<String> base64Certs = extractBase64Certificates(content);
-        System.out.println("인증서 " + base64Certs.size() + "개 발견\n");
+        List<byte[]> derCerts = readDerCertificates(Path.of(pemFile));
+        System.out.println("인증서 " + derCerts.size() + "개 발견\n");
 
-        if (selectedIndex != null && (selectedIndex < 0 || selectedIndex >= base64Certs.size())) {
-            System.out.println("에러: 인덱스는 0~" + (base64Certs.size() - 1) + " 사이여야 합니다.");
+        if (selectedIndex != null && (selectedIndex < 0 || selectedIndex >= derCerts.size())) {
+            System.out.println("에러: 인덱스는 0~" + (derCerts.size() - 1) + " 사이여야 합니다.");
             return;
         }
 
         CertificateFactory factory = CertificateFactory.getInstance("X.509");
 
-        for (int i = 0; i < base64Certs.size(); i++) {
+        for (int i = 0; i < derCerts.size(); i++) {
             if (selectedIndex != null && i != selectedIndex) {
                 continue;
             }
@@ -42,15 +64,15 @@ public class CertParser {
             System.out.println("[인증서 " + (i + 1) + "]");
             System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
 
-            String base64 = base64Certs.get(i);
+            byte[] derBytes = derCerts.get(i);
 
-            // Base64 내용 미리보기
+            // Base64 내용 미리보기 (DER 앞 45바이트 = Base64 60자)
+            String base64 = Base64.getEncoder().encodeToString(Arrays.copyOf(derBytes, Math.min(45, derBytes.length)));
             System.out.println(">> PEM Base64 (처음 60자):");
-            System.out.println("   " + base64.substring(0, Math.min(60, base64.length())) + "...\n");
+            System.out.println("   " + base64 + "...\n");
 
             // === 2단계: Base64 디코딩 ===
             System.out.println(">> Base64 디코딩:");
-            byte[] derBytes = Base64.getDecoder().decode(base64);
             System.out.println("   DER 바이트 길이: " + derBytes.length + " bytes");
             System.out.println("   DER 앞부분 (hex): " + bytesToHex(derBytes, 16) + "...\n");
 
@@ -74,31 +96,55 @@ public class CertParser {
         }
     }
 
-    // PEM 파일에서 Base64 인증서들 추출
-    private static List<String> extractBase64Certificates(String pemContent) {
-        List<String> certs = new ArrayList<>();
-        String BEGIN = "-----BEGIN CERTIFICATE-----";
-        String END = "-----END CERTIFICATE-----";
-
-        int start = 0;
-        while ((start = pemContent.indexOf(BEGIN, start)) != -1) {
-            int end = pemContent.indexOf(END, start);
-            if (end == -1) break;
-
-            String base64 = pemContent.substring(start + BEGIN.length(), end)
-                    .replaceAll("\\s", ""); // 줄바꿈 제거
-            certs.add(base64);
-            start = end + END.length();
+    // PEM 파일에서 인증서들의 DER 바이트 추출 (재사용 버퍼에서 복사해 보관)
+    private static List<byte[]> readDerCertificates(Path pemFile) throws Exception {
+        List<byte[]> certs = new ArrayList<>();
+        PemReader reader = PemReader.open(pemFile);
+        while (reader.next()) {
+            certs.add(Arrays.copyOf(reader.buffer(), reader.length()));
         }
         return certs;
     }
 
+    // 인증서마다 한 레코드 (PemReader 버퍼에서 바로 파싱, 중간 리스트 없음)
+    private static void writeRecords(Path pemFile, Integer selectedIndex, RecordWriter.Format format) throws Exception {
+        try (RecordWriter out = RecordWriter.stdout(format, "file", "index", "subject", "issuer", "serial",
+                "not_before", "not_after", "key_algorithm", "key_bits", "signature_algorithm", "version", "sha256")) {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            PemReader reader = PemReader.open(pemFile);
+            for (int i = 0; reader.next(); i++) {
+                if (selectedIndex != null && i != selectedIndex) {
+                    continue;
+                }
+                X509Certificate cert = reader.certificate();
+                sha256.update(reader.buffer(), 0, reader.length());
+                out.write(pemFile.toString(), i,
+                        cert.getSubjectX500Principal().getName(),
+                        cert.getIssuerX500Principal().getName(),
+                        cert.getSerialNumber().toString(16).toUpperCase(),
+                        cert.getNotBefore().toInstant().toString(),
+                        cert.getNotAfter().toInstant().toString(),
+                        cert.getPublicKey().getAlgorithm(),
+                        keyBits(cert.getPublicKey()),
+                        cert.getSigAlgName(),
+                        cert.getVersion(),
+                        Hex.encode(sha256.digest()));
+            }
+        }
+    }
+
+    static Integer keyBits(PublicKey key) {
+        if (key instanceof RSAPublicKey rsa) {
+            return rsa.getModulus().bitLength();
+        }
+        if (key instanceof ECPublicKey ec) {
+            return ec.getParams().getOrder().bitLength();
+        }
+        return null;
+    }
+
     // 바이트 배열을 hex 문자열로 변환
     private static String bytesToHex(byte[] bytes, int limit) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < Math.min(bytes.length, limit); i++) {
-            sb.append(String.format("%02X ", bytes[i]));
-        }
-        return sb.toString().trim();
+        return Hex.encode(bytes, limit, ' ').trim();
     }
 }
\ No newline at end of file
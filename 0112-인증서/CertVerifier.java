@@ -1,33 +1,57 @@
-import java.io.ByteArrayInputStream;
-import java.io.FileInputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
-import java.security.KeyStore;
 import java.security.MessageDigest;
 import java.security.PublicKey;
-import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPublicKey;
 
 import java.util.ArrayList;
-import java.util.Base64;
-import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class CertVerifier {
 
+    private static final Path DEFAULT_INDEX_FILE = TrustAnchorIndex.defaultIndexPath();
+
+    // 같은 링크(자식 인증서, 발급자 공개키)는 프로세스당 한 번만 서명 검증
+    private static final VerifiedLinkCache LINKS = new VerifiedLinkCache();
+
     public static void main(String[] args) throws Exception {
-        if (args.length < 1) {
-            System.out.println("Usage: java CertVerifier <pem파일>");
+        List<String> argList = new ArrayList<>(List.of(args));
+        RecordWriter.Format format = RecordWriter.formatOption(argList);
+        Path intermediatesFile = intermediatesOption(argList);
+        if (argList.isEmpty() || (argList.get(0).equals("--batch") && argList.size() < 2)) {
+            System.out.println("Usage: java CertVerifier <pem파일> [인덱스파일] [--intermediates <pem파일>] [--format jsonl|csv]");
+            System.out.println("       java CertVerifier --batch <디렉토리|매니페스트> [스레드수] [인덱스파일]"
+                    + " [--intermediates <pem파일>] [--format jsonl|csv]");
+            System.out.println("  인덱스파일 생략시 " + DEFAULT_INDEX_FILE + " 사용");
+            System.out.println("  스레드수 생략시 CPU 코어 수");
+            System.out.println("  --intermediates 지정시 체인 파일에 없는 중간 인증서를 이 묶음에서 찾음");
+            System.out.println("  --format 지정시 체인마다 한 줄(JSON Lines/CSV)로 출력, 요약은 표준 에러");
+            return;
+        }
+        List<X509Certificate> intermediates = intermediatesFile == null ? List.of() : parseCertificates(intermediatesFile);
+
+        // 일괄 검증 모드: 체인마다 한 줄씩 결과 출력
+        if (argList.get(0).equals("--batch")) {
+            int threads = argList.size() >= 3 ? Integer.parseInt(argList.get(2)) : Runtime.getRuntime().availableProcessors();
+            Path batchIndexFile = argList.size() >= 4 ? Path.of(argList.get(3)) : DEFAULT_INDEX_FILE;
+            CertBatchVerifier.run(Path.of(argList.get(1)), threads, batchIndexFile, intermediates, format);
             return;
         }
 
-        String pemFile = args[0];
-        String content = Files.readString(Path.of(pemFile));
+        String pemFile = argList.get(0);
+        Path indexFile = argList.size() >= 2 ? Path.of(argList.get(1)) : DEFAULT_INDEX_FILE;
+
+        // 기계가 읽는 출력이면 단계별 설명 없이 체인 결과 한 줄만
+        if (format != null) {
+            CertBatchVerifier.run(List.of(Path.of(pemFile)), 1, indexFile, intermediates, format);
+            return;
+        }
 
         // 인증서 파싱
-        List<X509Certificate> certs = parseCertificates(content);
+        List<X509Certificate> certs = parseCertificates(Path.of(pemFile));
         System.out.println("=== 인증서 체인 로드 ===");
         System.out.println("인증서 " + certs.size() + "개 발견\n");
 
@@ -37,13 +61,27 @@ public class CertVerifier {
         }
         System.out.println();
 
+        // 발급자 → 소유자 경로 구성 (파일 순서와 관계없이 리프마다, 교차 서명이면 경로가 여러 개)
+        ChainBuilder builder = new ChainBuilder(certs, intermediates);
+        List<List<X509Certificate>> paths = new ArrayList<>();
+        builder.buildAll().values().forEach(paths::addAll);
+        System.out.println("=== 체인 경로 ===");
+        for (List<X509Certificate> path : paths) {
+            StringBuilder line = new StringBuilder();
+            for (X509Certificate cert : path) {
+                line.append(line.length() == 0 ? "" : " → ").append(ChainBuilder.commonName(cert.getSubjectX500Principal()));
+            }
+            System.out.println(line);
+        }
+        System.out.println();
+
         // 체인 서명 검증
         System.out.println("=== 체인 서명 검증 ===\n");
 
         for (int i = 0; i < certs.size(); i++) {
             X509Certificate cert = certs.get(i);
-            String subject = getCommonName(cert.getSubjectX500Principal().getName());
-            String issuer = getCommonName(cert.getIssuerX500Principal().getName());
+            String subject = ChainBuilder.commonName(cert.getSubjectX500Principal());
+            String issuer = ChainBuilder.commonName(cert.getIssuerX500Principal());
 
             System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
             System.out.println("[인증서 " + i + "] " + subject);
@@ -52,12 +90,13 @@ public class CertVerifier {
             System.out.println("  Issuer : " + issuer);
             System.out.println("  서명 알고리즘: " + cert.getSigAlgName());
 
-            // 서명자 인증서 찾기
-            X509Certificate signerCert = findSignerCert(cert, certs);
+            // 서명자 인증서 찾기 (AKI/Issuer DN 색인)
+            List<X509Certificate> signers = builder.issuersOf(cert);
+            X509Certificate signerCert = signers.isEmpty() ? null : signers.get(0);
 
             if (signerCert == null) {
                 // 자체 서명 확인
-                if (subject.equals(issuer)) {
+                if (ChainBuilder.isSelfIssued(cert)) {
                     System.out.println("\n  >> 자체 서명 인증서 (루트 CA)");
                     System.out.println("  >> 검증: 자신의 공개키로 서명 확인");
                     verifySignature(cert, cert.getPublicKey(), subject);
@@ -66,60 +105,64 @@ public class CertVerifier {
                     System.out.println("  >> 결과: 검증 불가\n");
                 }
             } else {
-                String signerName = getCommonName(signerCert.getSubjectX500Principal().getName());
+                String signerName = ChainBuilder.commonName(signerCert.getSubjectX500Principal());
                 System.out.println("\n  >> 서명자: " + signerName);
+                if (signers.size() > 1) {
+                    System.out.println("  >> 교차 서명: 같은 Subject의 발급자 인증서 " + signers.size() + "개");
+                }
                 System.out.println("  >> 검증: 서명자의 공개키로 서명 확인");
                 verifySignature(cert, signerCert.getPublicKey(), signerName);
             }
         }
 
-        // 루트 CA 신뢰 검증
+        // 루트 CA 신뢰 검증 (경로마다 최상위 인증서)
         System.out.println("=== 루트 CA 신뢰 검증 ===\n");
-        X509Certificate rootCert = certs.get(certs.size() - 1);
-        verifyTrustedCA(rootCert);
+        Set<X509Certificate> roots = new LinkedHashSet<>();
+        for (List<X509Certificate> path : paths) {
+            roots.add(path.get(path.size() - 1));
+        }
+        for (X509Certificate rootCert : roots) {
+            verifyTrustedCA(rootCert, indexFile);
+        }
 
         System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
         System.out.println("검증 완료");
         System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
     }
 
-    private static void verifyTrustedCA(X509Certificate rootCert) {
-        String rootCN = getCommonName(rootCert.getSubjectX500Principal().getName());
+    private static void verifyTrustedCA(X509Certificate rootCert, Path indexFile) {
+        String rootCN = ChainBuilder.commonName(rootCert.getSubjectX500Principal());
+        Path cacertsPath = TrustAnchorIndex.defaultCacertsPath();
         System.out.println("루트 CA: " + rootCN);
-        System.out.println("Trust Store 경로: " + System.getProperty("java.home") + "/lib/security/cacerts\n");
+        System.out.println("Trust Store 경로: " + cacertsPath);
+        System.out.println("인덱스 파일: " + indexFile + "\n");
 
         try {
-            // Java 기본 Trust Store 로드
-            String cacertsPath = System.getProperty("java.home") + "/lib/security/cacerts";
-            KeyStore trustStore = KeyStore.getInstance("JKS");
-            trustStore.load(new FileInputStream(cacertsPath), "changeit".toCharArray());
-
-            // Trust Store에서 루트 CA 찾기
-            boolean found = false;
-            String foundAlias = null;
-
-            Enumeration<String> aliases = trustStore.aliases();
-            while (aliases.hasMoreElements()) {
-                String alias = aliases.nextElement();
-                if (trustStore.isCertificateEntry(alias)) {
-                    X509Certificate trustedCert = (X509Certificate) trustStore.getCertificate(alias);
-                    if (trustedCert.getSubjectX500Principal().equals(rootCert.getSubjectX500Principal())) {
-                        found = true;
-                        foundAlias = alias;
-                        break;
-                    }
-                }
-            }
-
-            if (found) {
-                System.out.println(">> 결과: 신뢰할 수 있음");
-                System.out.println(">> Trust Store alias: " + foundAlias);
-            } else {
+            // 인덱스 로드 (캐시가 있으면 메모리 매핑, 없으면 cacerts 파싱 후 저장)
+            long start = System.nanoTime();
+            TrustAnchorIndex index = TrustAnchorIndex.load(cacertsPath, indexFile);
+            long elapsedMicros = (System.nanoTime() - start) / 1000;
+            System.out.println("루트 CA " + index.size() + "개 인덱스 로드: " + elapsedMicros + " us"
+                    + (index.isFromCache() ? " (캐시 사용)" : " (cacerts 파싱)") + "\n");
+
+            // 자체 서명이면 자신을, 아니면 발급자를 SKI/AKI → Subject DN 순으로 조회
+            boolean selfSigned = ChainBuilder.isSelfIssued(rootCert);
+            TrustAnchorIndex.Anchor anchor = selfSigned ? index.findSelf(rootCert) : index.findIssuer(rootCert);
+
+            if (anchor == null) {
                 System.out.println(">> 결과: Trust Store에서 찾을 수 없음");
                 System.out.println(">> 이 루트 CA는 시스템에서 신뢰하지 않습니다.");
+            } else if (!selfSigned) {
+                // 체인에 루트가 없으면 마지막 인증서를 Trust Store 루트의 공개키로 검증
+                LINKS.verify(rootCert, anchor.getCertificate().getPublicKey());
+                System.out.println(">> 결과: 신뢰할 수 있음 (Trust Store 루트가 서명)");
+                System.out.println(">> Trust Store alias: " + anchor.getAlias());
+            } else {
+                System.out.println(">> 결과: 신뢰할 수 있음");
+                System.out.println(">> Trust Store alias: " + anchor.getAlias());
             }
         } catch (Exception e) {
-            System.out.println(">> Trust Store 로드 실패: " + e.getMessage());
+            System.out.println(">> Trust Store 검증 실패: " + e.getMessage());
         }
         System.out.println();
     }
@@ -157,7 +200,7 @@ public class CertVerifier {
             }
 
             // 5. 검증 수행
-            cert.verify(publicKey);
+            LINKS.verify(cert, publicKey);
             System.out.println("\n  >> 결과: 성공 - 서명이 유효함\n");
         } catch (Exception e) {
             System.out.println("\n  >> 결과: 실패 - " + e.getMessage() + "\n");
@@ -173,62 +216,25 @@ public class CertVerifier {
     }
 
     private static String bytesToHex(byte[] bytes, int limit) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < Math.min(bytes.length, limit); i++) {
-            sb.append(String.format("%02X", bytes[i]));
-        }
-        return sb.toString();
+        return Hex.encode(bytes, limit, (char) 0);
     }
 
-    private static X509Certificate findSignerCert(X509Certificate cert, List<X509Certificate> certs) {
-        String issuer = cert.getIssuerX500Principal().getName();
-        String subject = cert.getSubjectX500Principal().getName();
-
-        // 자체 서명이면 null 반환 (별도 처리)
-        if (issuer.equals(subject)) {
+    // PemReader로 매핑된 파일을 바로 디코딩 (파일 전체를 String으로 읽지 않음)
+    // --intermediates <pem파일>: 여러 체인이 함께 쓰는 중간 인증서 묶음 (실행 전에 한 번 읽음)
+    private static Path intermediatesOption(List<String> args) {
+        int i = args.indexOf("--intermediates");
+        if (i < 0) {
             return null;
         }
-
-        // Issuer와 Subject가 일치하는 인증서 찾기
-        for (X509Certificate candidate : certs) {
-            if (candidate.getSubjectX500Principal().getName().equals(issuer)) {
-                return candidate;
-            }
-        }
-        return null;
-    }
-
-    private static String getCommonName(String dn) {
-        for (String part : dn.split(",")) {
-            if (part.trim().startsWith("CN=")) {
-                return part.trim().substring(3);
-            }
+        if (i + 1 >= args.size()) {
+            throw new IllegalArgumentException("--intermediates 뒤에 PEM 파일이 필요합니다");
         }
-        return dn;
+        Path file = Path.of(args.remove(i + 1));
+        args.remove(i);
+        return file;
     }
 
-    private static List<X509Certificate> parseCertificates(String pemContent) throws Exception {
-        List<X509Certificate> certs = new ArrayList<>();
-        CertificateFactory factory = CertificateFactory.getInstance("X.509");
-
-        String BEGIN = "-----BEGIN CERTIFICATE-----";
-        String END = "-----END CERTIFICATE-----";
-
-        int start = 0;
-        while ((start = pemContent.indexOf(BEGIN, start)) != -1) {
-            int end = pemContent.indexOf(END, start);
-            if (end == -1) break;
-
-            String base64 = pemContent.substring(start + BEGIN.length(), end)
-                    .replaceAll("\\s", "");
-            byte[] derBytes = Base64.getDecoder().decode(base64);
-
-            ByteArrayInputStream bis = new ByteArrayInputStream(derBytes);
-            X509Certificate cert = (X509Certificate) factory.generateCertificate(bis);
-            certs.add(cert);
-
-            start = end + END.length();
-        }
-        return certs;
+    static List<X509Certificate> parseCertificates(Path pemFile) throws Exception {
+        return PemReader.readCertificates(pemFile);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+import java.security.cert.X509Certificate;
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.Rdn;
+import javax.security.auth.x500.X500Principal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 인증서 묶음에서 발급자 → 소유자 체인 구성
+// 후보 발급자를 정규화된 Subject DN과 Subject Key Identifier로 색인해 두고
+// 각 인증서의 Authority Key Identifier(없으면 Issuer DN)로 바로 찾는다.
+// 같은 Subject/키로 여러 CA가 서명한 교차 서명(cross-signed) 중간 인증서가 있으면
+// 가능한 경로를 모두 만든다. (서명 검증은 하지 않음, 호출하는 쪽에서 검증)
+public class ChainBuilder {
+
+    private static final int MAX_DEPTH = 10;
+    private static final int MAX_PATHS = 64;
+
+    private final List<X509Certificate> certs;
+    private final Map<String, List<X509Certificate>> bySubject = new HashMap<>();
+    private final Map<String, List<X509Certificate>> byKeyId = new HashMap<>();
+
+    public ChainBuilder(Collection<X509Certificate> bundle) {
+        this(bundle, Collections.emptyList());
+    }
+
+    // intermediates는 발급자 후보로만 쓰고, 체인의 시작점(leaves)은 bundle에서만 찾는다
+    public ChainBuilder(Collection<X509Certificate> bundle, Collection<X509Certificate> intermediates) {
+        // 같은 인증서가 여러 번 들어 있으면 하나만 사용
+        this.certs = new ArrayList<>(new LinkedHashSet<>(bundle));
+        Set<X509Certificate> pool = new LinkedHashSet<>(certs);
+        pool.addAll(intermediates);
+        for (X509Certificate cert : pool) {
+            bySubject.computeIfAbsent(TrustAnchorIndex.subjectKey(cert.getSubjectX500Principal()),
+                    key -> new ArrayList<>(1)).add(cert);
+            String keyId = TrustAnchorIndex.hex(TrustAnchorIndex.subjectKeyId(cert));
+            if (keyId != null) {
+                byKeyId.computeIfAbsent(keyId, key -> new ArrayList<>(1)).add(cert);
+            }
+        }
+    }
+
+    // 묶음 안에서 cert를 서명했을 수 있는 인증서들 (AKI 일치 우선, 없으면 Issuer DN 일치)
+    public List<X509Certificate> issuersOf(X509Certificate cert) {
+        if (isSelfIssued(cert)) {
+            return Collections.emptyList();
+        }
+        String issuer = TrustAnchorIndex.subjectKey(cert.getIssuerX500Principal());
+        String authorityKeyId = TrustAnchorIndex.hex(TrustAnchorIndex.authorityKeyId(cert));
+
+        List<X509Certificate> found = new ArrayList<>(1);
+        if (authorityKeyId != null) {
+            for (X509Certificate candidate : byKeyId.getOrDefault(authorityKeyId, Collections.emptyList())) {
+                if (candidate != cert && TrustAnchorIndex.subjectKey(candidate.getSubjectX500Principal()).equals(issuer)) {
+                    found.add(candidate);
+                }
+            }
+        }
+        if (found.isEmpty()) {
+            for (X509Certificate candidate : bySubject.getOrDefault(issuer, Collections.emptyList())) {
+                if (candidate != cert) {
+                    found.add(candidate);
+                }
+            }
+        }
+        return found;
+    }
+
+    // bundle에서 다른 인증서의 발급자가 아닌 인증서들 (체인의 시작점, 파일 안의 순서와 무관)
+    public List<X509Certificate> leaves() {
+        Set<X509Certificate> issuers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (X509Certificate cert : certs) {
+            issuers.addAll(issuersOf(cert));
+        }
+        List<X509Certificate> leaves = new ArrayList<>();
+        for (X509Certificate cert : certs) {
+            if (!issuers.contains(cert)) {
+                leaves.add(cert);
+            }
+        }
+        return leaves;
+    }
+
+    // leaf부터 올라가는 모든 경로 (자체 서명 인증서나 묶음 안에 발급자가 없는 인증서에서 끝남)
+    public List<List<X509Certificate>> buildPaths(X509Certificate leaf) {
+        List<List<X509Certificate>> paths = new ArrayList<>();
+        List<X509Certificate> path = new ArrayList<>();
+        path.add(leaf);
+        extend(path, new HashSet<>(Set.of(leaf)), paths);
+        return paths;
+    }
+
+    // 시작점마다 모든 경로 (서로 발급한 순환 묶음처럼 시작점이 없으면 첫 번째 인증서부터)
+    public Map<X509Certificate, List<List<X509Certificate>>> buildAll() {
+        Map<X509Certificate, List<List<X509Certificate>>> all = new LinkedHashMap<>();
+        List<X509Certificate> leaves = leaves();
+        for (X509Certificate leaf : leaves.isEmpty() ? certs.subList(0, Math.min(1, certs.size())) : leaves) {
+            all.put(leaf, buildPaths(leaf));
+        }
+        return all;
+    }
+
+    private void extend(List<X509Certificate> path, Set<X509Certificate> visited, List<List<X509Certificate>> paths) {
+        if (paths.size() >= MAX_PATHS) {
+            return;
+        }
+        X509Certificate top = path.get(path.size() - 1);
+        List<X509Certificate> issuers = path.size() < MAX_DEPTH ? issuersOf(top) : Collections.emptyList();
+
+        boolean extended = false;
+        for (X509Certificate issuer : issuers) {
+            // 순환 (A가 B를, B가 A를 서명) 방지
+            if (visited.add(issuer)) {
+                extended = true;
+                path.add(issuer);
+                extend(path, visited, paths);
+                path.remove(path.size() - 1);
+                visited.remove(issuer);
+            }
+        }
+        if (!extended) {
+            paths.add(new ArrayList<>(path));
+        }
+    }
+
+    static boolean isSelfIssued(X509Certificate cert) {
+        return cert.getSubjectX500Principal().equals(cert.getIssuerX500Principal());
+    }
+
+    // RFC 2253 DN에서 CN 추출 (이스케이프된 쉼표도 처리), CN이 없으면 DN 전체
+    static String commonName(X500Principal principal) {
+        String dn = principal.getName();
+        try {
+            List<Rdn> rdns = new LdapName(dn).getRdns();
+            // LdapName은 오른쪽(최상위)부터 저장하므로 뒤에서부터 찾으면 가장 구체적인 CN
+            for (int i = rdns.size() - 1; i >= 0; i--) {
+                if (rdns.get(i).getType().equalsIgnoreCase("CN")) {
+                    return String.valueOf(rdns.get(i).getValue());
+                }
+            }
+        } catch (InvalidNameException e) {
+            // RFC 2253 형식이 아니면 DN 그대로
+        }
+        return dn;
+    }
+}
@@ -0,0 +1,31 @@
+// 룩업 테이블 기반 hex 인코더
+// String.format("%02X", b)를 바이트마다 호출하면 포맷 문자열 파싱과 객체 생성이 반복되므로
+// 니블(4비트)별 문자표로 char[]에 바로 채운다.
+public final class Hex {
+
+    private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private Hex() {
+    }
+
+    public static String encode(byte[] bytes) {
+        return encode(bytes, bytes.length, (char) 0);
+    }
+
+    // 앞에서 limit 바이트만 인코딩, separator가 0이 아니면 각 바이트 뒤에 붙인다
+    public static String encode(byte[] bytes, int limit, char separator) {
+        int count = Math.min(bytes.length, limit);
+        int width = separator == 0 ? 2 : 3;
+        char[] out = new char[count * width];
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            int b = bytes[i] & 0xFF;
+            out[pos++] = DIGITS[b >>> 4];
+            out[pos++] = DIGITS[b & 0x0F];
+            if (separator != 0) {
+                out[pos++] = separator;
+            }
+        }
+        return new String(out);
+    }
+}
@@ -0,0 +1,215 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 스트리밍 PEM/DER 인증서 리더
+// 파일을 메모리 매핑한 뒤 바이트 단위로 BEGIN/END 마커를 찾고, Base64를 재사용 버퍼에
+// 바로 디코딩해서 CertificateFactory에 넘긴다. (파일 전체 String, 인증서별 String 없음)
+// BEGIN 마커가 없고 첫 바이트가 0x30(SEQUENCE), 길이가 파일 안에 들어가면 DER 파일로 보고
+// TLV 길이만큼 잘라서 읽는다. (0x30은 ASCII '0'이기도 해서 첫 바이트만으로는 판단하지 않음)
+public class PemReader {
+
+    private static final byte[] BEGIN = "-----BEGIN CERTIFICATE-----".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] END = "-----END CERTIFICATE-----".getBytes(StandardCharsets.US_ASCII);
+    private static final int[] BASE64 = new int[256];
+
+    static {
+        Arrays.fill(BASE64, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final ByteBuffer data;
+    private final boolean der;
+    private final CertificateFactory factory;
+    private final byte[] chunk = new byte[8192];
+    private byte[] buffer = new byte[4096];
+    private int length;
+
+    public PemReader(ByteBuffer data) throws CertificateException {
+        this.data = data.duplicate();
+        this.der = derLength(this.data.position()) != 0 && indexOf(BEGIN, this.data.position()) < 0;
+        this.factory = CertificateFactory.getInstance("X.509");
+    }
+
+    public static PemReader open(Path file) throws IOException, CertificateException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new PemReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static List<X509Certificate> readCertificates(Path file) throws IOException, CertificateException {
+        PemReader reader = open(file);
+        List<X509Certificate> certs = new ArrayList<>();
+        while (reader.next()) {
+            certs.add(reader.certificate());
+        }
+        return certs;
+    }
+
+    // 다음 인증서의 DER 바이트를 버퍼에 채운다 (없으면 false)
+    public boolean next() throws IOException {
+        length = 0;
+        return der ? nextDer() : nextPem();
+    }
+
+    // 현재 인증서의 DER 바이트: buffer()[0, length())
+    // 다음 next() 호출 시 덮어쓰므로 보관하려면 복사해야 한다
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public X509Certificate certificate() throws CertificateException {
+        return (X509Certificate) factory.generateCertificate(new ByteArrayInputStream(buffer, 0, length));
+    }
+
+    private boolean nextPem() throws IOException {
+        int start = indexOf(BEGIN, data.position());
+        if (start < 0) {
+            data.position(data.limit());
+            return false;
+        }
+        data.position(start + BEGIN.length);
+
+        // 4문자(24비트)씩 모아서 3바이트로 디코딩, 공백/줄바꿈은 건너뜀
+        // 매핑된 버퍼에서 바이트 단위 get() 대신 청크 단위로 복사해서 스캔
+        int bits = 0;
+        int count = 0;
+        int padding = 0;
+        int pos = data.position();
+        while (pos < data.limit()) {
+            int n = Math.min(chunk.length, data.limit() - pos);
+            data.get(pos, chunk, 0, n);
+            ensureCapacity(length + n);
+            for (int k = 0; k < n; k++) {
+                int c = chunk[k] & 0xFF;
+                int value = BASE64[c];
+                if (value < 0) {
+                    if (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+                        continue;
+                    }
+                    if (c == '-') {
+                        int at = pos + k;
+                        if (!matches(END, at)) {
+                            throw new IOException("잘못된 PEM 마커 (위치 " + at + ")");
+                        }
+                        if (count != 0) {
+                            throw new IOException("Base64 길이가 4의 배수가 아님");
+                        }
+                        data.position(at + END.length);
+                        length -= padding;
+                        return true;
+                    }
+                    if (c != '=') {
+                        throw new IOException("잘못된 Base64 문자: '" + (char) c + "'");
+                    }
+                    padding++;
+                    value = 0;
+                } else if (padding > 0) {
+                    throw new IOException("Base64 패딩 뒤에 문자가 있음");
+                }
+                bits = (bits << 6) | value;
+                if (++count == 4) {
+                    buffer[length++] = (byte) (bits >> 16);
+                    buffer[length++] = (byte) (bits >> 8);
+                    buffer[length++] = (byte) bits;
+                    bits = 0;
+                    count = 0;
+                }
+            }
+            pos += n;
+        }
+        throw new IOException("END CERTIFICATE 마커 없음");
+    }
+
+    // DER 인증서가 연속으로 저장된 경우: SEQUENCE 태그 + 길이만큼씩 읽음
+    // 마지막 인증서 뒤의 줄바꿈이나 SEQUENCE가 아닌 나머지 바이트는 무시
+    private boolean nextDer() throws IOException {
+        if (!data.hasRemaining() || data.get(data.position()) != 0x30) {
+            data.position(data.limit());
+            return false;
+        }
+        int start = data.position();
+        long total = derLength(start);
+        if (total == 0) {
+            throw new IOException("잘못된 DER 길이 (위치 " + start + ")");
+        }
+        if (total < 0) {
+            throw new IOException("DER 인증서가 잘림 (위치 " + start + ")");
+        }
+        ensureCapacity((int) total);
+        data.get(start, buffer, 0, (int) total);
+        data.position(start + (int) total);
+        length = (int) total;
+        return true;
+    }
+
+    // start의 SEQUENCE TLV 전체 길이 (형식이 틀리면 0, 파일 끝을 넘으면 -1)
+    private long derLength(int start) {
+        int limit = data.limit();
+        if (start + 2 > limit || data.get(start) != 0x30) {
+            return 0;
+        }
+        int pos = start + 1;
+        int first = data.get(pos++) & 0xFF;
+        long contentLength = first;
+        if (first >= 0x80) {
+            int lengthBytes = first & 0x7F;
+            if (lengthBytes == 0 || lengthBytes > 4 || pos + lengthBytes > limit) {
+                return 0;
+            }
+            contentLength = 0;
+            for (int i = 0; i < lengthBytes; i++) {
+                contentLength = (contentLength << 8) | (data.get(pos++) & 0xFF);
+            }
+        }
+        long total = pos - start + contentLength;
+        return start + total > limit ? -1 : total;
+    }
+
+    private int indexOf(byte[] marker, int from) {
+        int last = data.limit() - marker.length;
+        for (int i = from; i <= last; i++) {
+            if (data.get(i) == marker[0] && matches(marker, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(byte[] marker, int at) {
+        if (at + marker.length > data.limit()) {
+            return false;
+        }
+        for (int i = 0; i < marker.length; i++) {
+            if (data.get(at + i) != marker[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+        }
+    }
+}
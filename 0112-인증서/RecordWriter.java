@@ -0,0 +1,142 @@
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+// 기계가 읽는 출력 (JSON Lines 또는 CSV)
+// 레코드마다 println을 여러 번 호출하는 대신 하나의 버퍼 Writer에 모아서 쓴다.
+// 컬럼 이름은 생성할 때 한 번 정하고, write()에는 같은 순서로 값만 넘긴다.
+public class RecordWriter implements Closeable {
+
+    public enum Format { JSONL, CSV }
+
+    private final Writer out;
+    private final Format format;
+    private final String[] columns;
+
+    public RecordWriter(Writer out, Format format, String... columns) throws IOException {
+        this.out = out;
+        this.format = format;
+        this.columns = columns;
+        if (format == Format.CSV) {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(columns[i]);
+            }
+            out.write('\n');
+        }
+    }
+
+    // 표준 출력에 64KB 버퍼로 쓰는 RecordWriter (System.out은 줄마다 flush할 수 있음)
+    public static RecordWriter stdout(Format format, String... columns) throws IOException {
+        OutputStream stdout = new FileOutputStream(FileDescriptor.out);
+        return new RecordWriter(new BufferedWriter(new OutputStreamWriter(stdout, StandardCharsets.UTF_8), 1 << 16),
+                format, columns);
+    }
+
+    // 인자 목록에서 "--format jsonl|csv"를 찾아 제거하고 형식을 반환 (없으면 null)
+    public static Format formatOption(List<String> args) {
+        int i = args.indexOf("--format");
+        if (i < 0) {
+            return null;
+        }
+        if (i + 1 >= args.size()) {
+            throw new IllegalArgumentException("--format 뒤에 jsonl 또는 csv가 필요합니다");
+        }
+        String value = args.remove(i + 1);
+        args.remove(i);
+        return Format.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+    // 숫자/불리언은 그대로, null은 JSON null / CSV 빈 칸, 나머지는 문자열
+    public void write(Object... values) throws IOException {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException("컬럼 " + columns.length + "개, 값 " + values.length + "개");
+        }
+        if (format == Format.JSONL) {
+            out.write('{');
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeJsonString(columns[i]);
+                out.write(':');
+                Object value = values[i];
+                if (value == null) {
+                    out.write("null");
+                } else if (value instanceof Number || value instanceof Boolean) {
+                    out.write(value.toString());
+                } else {
+                    writeJsonString(value.toString());
+                }
+            }
+            out.write("}\n");
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                if (values[i] != null) {
+                    writeCsvField(values[i].toString());
+                }
+            }
+            out.write('\n');
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+
+    private void writeJsonString(String value) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                out.write(value, start, i - start);
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    default -> out.write(String.format("\\u%04x", (int) c));
+                }
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번
+    private void writeCsvField(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,390 @@
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import javax.security.auth.x500.X500Principal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Trust Store 루트 CA 인덱스
+// Subject DN, Subject Key Identifier(SKI)로 루트 CA를 O(1)에 찾는다.
+// 인덱스 파일로 저장해 두면 다음 실행부터는 파일을 메모리 매핑해서
+// cacerts 키스토어 파싱 없이 바로 조회한다. (인증서는 조회될 때만 파싱)
+// 주의: 인덱스 파일의 인증서를 그대로 루트 CA로 믿으므로 인덱스 파일이 곧 Trust Store다.
+// 헤더의 cacerts SHA-256으로 cacerts가 바뀐 것은 감지하지만, 인덱스 파일 자체를 바꿔치기하면
+// 막을 수 없으니 기본 위치는 사용자 캐시 디렉토리(소유자 전용 권한)로 하고,
+// 다른 사용자 소유이거나 그룹/다른 사용자가 쓸 수 있는 인덱스 파일은 열지 않는다.
+public class TrustAnchorIndex {
+
+    private static final int MAGIC = 0x54414958; // "TAIX"
+    private static final int VERSION = 2;
+    private static final int DIGEST_LENGTH = 32;
+    private static final String SKI_OID = "2.5.29.14";
+    private static final String AKI_OID = "2.5.29.35";
+
+    private final Map<String, List<Anchor>> bySubject = new HashMap<>();
+    private final Map<String, Anchor> byKeyId = new HashMap<>();
+    private final List<Anchor> anchors = new ArrayList<>();
+    private final boolean fromCache;
+
+    private TrustAnchorIndex(boolean fromCache) {
+        this.fromCache = fromCache;
+    }
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+
+    public static Path defaultCacertsPath() {
+        return Path.of(System.getProperty("java.home"), "lib", "security", "cacerts");
+    }
+
+    // $XDG_CACHE_HOME/cert-verifier/cacerts.idx (없으면 ~/.cache 아래)
+    public static Path defaultIndexPath() {
+        String cacheHome = System.getenv("XDG_CACHE_HOME");
+        Path cacheDir = cacheHome != null && !cacheHome.isEmpty()
+                ? Path.of(cacheHome)
+                : Path.of(System.getProperty("user.home"), ".cache");
+        return cacheDir.resolve("cert-verifier").resolve("cacerts.idx");
+    }
+
+    // 인덱스 파일이 cacerts와 일치하면 매핑해서 사용, 아니면 새로 만들어 저장
+    public static TrustAnchorIndex load(Path cacerts, Path indexFile) throws Exception {
+        if (Files.exists(indexFile)) {
+            // 남이 바꿀 수 있는 인덱스는 다시 만들지도 않고 거부
+            checkPrivate(indexFile);
+            try {
+                TrustAnchorIndex cached = open(indexFile, cacerts);
+                if (cached != null) {
+                    return cached;
+                }
+            } catch (IOException | RuntimeException e) {
+                // 손상된 인덱스 파일은 다시 만든다
+            }
+        }
+        TrustAnchorIndex index = build(cacerts, "changeit".toCharArray());
+        index.save(indexFile, cacerts);
+        return index;
+    }
+
+    public static TrustAnchorIndex build(Path cacerts, char[] password) throws Exception {
+        KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        try (InputStream in = Files.newInputStream(cacerts)) {
+            trustStore.load(in, password);
+        }
+
+        TrustAnchorIndex index = new TrustAnchorIndex(false);
+        Enumeration<String> aliases = trustStore.aliases();
+        while (aliases.hasMoreElements()) {
+            String alias = aliases.nextElement();
+            if (trustStore.isCertificateEntry(alias)
+                    && trustStore.getCertificate(alias) instanceof X509Certificate cert) {
+                index.add(new Anchor(alias, subjectKey(cert.getSubjectX500Principal()),
+                        hex(subjectKeyId(cert)), cert));
+            }
+        }
+        return index;
+    }
+
+    // 인덱스 파일 매핑 (cacerts SHA-256이 다르면 null, cacerts가 null이면 비교 생략)
+    public static TrustAnchorIndex open(Path indexFile, Path cacerts) throws IOException {
+        checkPrivate(indexFile);
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.remaining() < 12 + DIGEST_LENGTH || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("인덱스 파일 형식이 아님: " + indexFile);
+        }
+        byte[] digest = new byte[DIGEST_LENGTH];
+        buffer.get(digest);
+        if (cacerts != null && !MessageDigest.isEqual(digest, digest(cacerts))) {
+            return null;
+        }
+
+        TrustAnchorIndex index = new TrustAnchorIndex(true);
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            String alias = readString(buffer);
+            String subject = readString(buffer);
+            String keyId = readString(buffer);
+            int derLength = buffer.getInt();
+            if (derLength < 0 || derLength > buffer.remaining()) {
+                throw new IOException("인덱스 파일이 손상됨: " + indexFile);
+            }
+            ByteBuffer der = buffer.slice(buffer.position(), derLength);
+            buffer.position(buffer.position() + derLength);
+            index.add(new Anchor(alias, subject, keyId.isEmpty() ? null : keyId, der));
+        }
+        return index;
+    }
+
+    public void save(Path indexFile, Path cacerts) throws Exception {
+        Path parent = indexFile.toAbsolutePath().getParent();
+        if (!Files.isDirectory(parent)) {
+            if (parent.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectories(parent, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+            } else {
+                Files.createDirectories(parent);
+            }
+        }
+        // 임시 파일은 소유자만 읽고 쓸 수 있게 만들어지고, 이동해도 권한이 유지된다
+        Path temp = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.write(digest(cacerts));
+            out.writeInt(anchors.size());
+            for (Anchor anchor : anchors) {
+                writeString(out, anchor.alias);
+                writeString(out, anchor.subject);
+                writeString(out, anchor.keyId == null ? "" : anchor.keyId);
+                byte[] der = anchor.getCertificate().getEncoded();
+                out.writeInt(der.length);
+                out.write(der);
+            }
+        }
+        Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Anchor findBySubject(X500Principal subject) {
+        List<Anchor> found = bySubject.get(subjectKey(subject));
+        return found == null ? null : found.get(0);
+    }
+
+    public List<Anchor> findAllBySubject(X500Principal subject) {
+        return bySubject.getOrDefault(subjectKey(subject), Collections.emptyList());
+    }
+
+    public Anchor findByKeyId(byte[] keyId) {
+        return keyId == null ? null : byKeyId.get(hex(keyId));
+    }
+
+    // 인증서 자신이 루트 CA로 등록되어 있는지 (SKI 우선, 없으면 Subject DN)
+    // DN/SKI는 누구나 똑같이 만들 수 있으므로 공개키까지 같아야 같은 루트로 본다
+    public Anchor findSelf(X509Certificate cert) {
+        String subject = subjectKey(cert.getSubjectX500Principal());
+        Anchor anchor = findByKeyId(subjectKeyId(cert));
+        if (anchor != null && anchor.subject.equals(subject) && sameKey(anchor, cert)) {
+            return anchor;
+        }
+        for (Anchor candidate : bySubject.getOrDefault(subject, Collections.emptyList())) {
+            if (sameKey(candidate, cert)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // 인증서를 서명한 루트 CA 찾기 (AKI → SKI 우선, 없으면 Issuer DN)
+    public Anchor findIssuer(X509Certificate cert) {
+        Anchor anchor = findByKeyId(authorityKeyId(cert));
+        if (anchor != null) {
+            return anchor;
+        }
+        return findBySubject(cert.getIssuerX500Principal());
+    }
+
+    public int size() {
+        return anchors.size();
+    }
+
+    public boolean isFromCache() {
+        return fromCache;
+    }
+
+    private void add(Anchor anchor) {
+        anchors.add(anchor);
+        bySubject.computeIfAbsent(anchor.subject, key -> new ArrayList<>(1)).add(anchor);
+        if (anchor.keyId != null) {
+            byKeyId.putIfAbsent(anchor.keyId, anchor);
+        }
+    }
+
+    private static boolean sameKey(Anchor anchor, X509Certificate cert) {
+        try {
+            return anchor.getCertificate().getPublicKey().equals(cert.getPublicKey());
+        } catch (CertificateException e) {
+            return false;
+        }
+    }
+
+    // 인덱스 파일이 현재 사용자 소유이고 그룹/다른 사용자가 쓸 수 없는지 확인
+    static void checkPrivate(Path indexFile) throws IOException {
+        UserPrincipal owner = Files.getOwner(indexFile);
+        UserPrincipal currentUser = indexFile.getFileSystem().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!owner.equals(currentUser)) {
+            throw new IOException("다른 사용자(" + owner.getName() + ") 소유의 인덱스 파일은 신뢰하지 않음: " + indexFile);
+        }
+        PosixFileAttributeView view = Files.getFileAttributeView(indexFile, PosixFileAttributeView.class);
+        if (view == null) {
+            return;
+        }
+        Set<PosixFilePermission> permissions = view.readAttributes().permissions();
+        if (permissions.contains(PosixFilePermission.GROUP_WRITE) || permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+            throw new IOException("그룹/다른 사용자가 쓸 수 있는 인덱스 파일은 신뢰하지 않음: " + indexFile
+                    + " (" + PosixFilePermissions.toString(permissions) + ")");
+        }
+    }
+
+    private static byte[] digest(Path cacerts) throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(cacerts));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String subjectKey(X500Principal principal) {
+        return principal.getName(X500Principal.CANONICAL);
+    }
+
+    // SubjectKeyIdentifier ::= OCTET STRING (확장값 자체도 OCTET STRING으로 감싸져 있음)
+    static byte[] subjectKeyId(X509Certificate cert) {
+        byte[] ext = cert.getExtensionValue(SKI_OID);
+        if (ext == null) {
+            return null;
+        }
+        int[] pos = {0};
+        if (readTag(ext, pos) != 0x04) {
+            return null;
+        }
+        readLength(ext, pos);
+        if (readTag(ext, pos) != 0x04) {
+            return null;
+        }
+        int length = readLength(ext, pos);
+        return Arrays.copyOfRange(ext, pos[0], pos[0] + length);
+    }
+
+    // AuthorityKeyIdentifier ::= SEQUENCE { keyIdentifier [0] IMPLICIT OCTET STRING OPTIONAL, ... }
+    static byte[] authorityKeyId(X509Certificate cert) {
+        byte[] ext = cert.getExtensionValue(AKI_OID);
+        if (ext == null) {
+            return null;
+        }
+        int[] pos = {0};
+        if (readTag(ext, pos) != 0x04) {
+            return null;
+        }
+        readLength(ext, pos);
+        if (readTag(ext, pos) != 0x30) {
+            return null;
+        }
+        int end = readLength(ext, pos) + pos[0];
+        while (pos[0] < end) {
+            int tag = readTag(ext, pos);
+            int length = readLength(ext, pos);
+            if (tag == 0x80) {
+                return Arrays.copyOfRange(ext, pos[0], pos[0] + length);
+            }
+            pos[0] += length;
+        }
+        return null;
+    }
+
+    static String hex(byte[] bytes) {
+        return bytes == null ? null : HexFormat.of().withUpperCase().formatHex(bytes);
+    }
+
+    private static int readTag(byte[] der, int[] pos) {
+        return der[pos[0]++] & 0xFF;
+    }
+
+    private static int readLength(byte[] der, int[] pos) {
+        int first = der[pos[0]++] & 0xFF;
+        if (first < 0x80) {
+            return first;
+        }
+        int length = 0;
+        for (int i = 0; i < (first & 0x7F); i++) {
+            length = (length << 8) | (der[pos[0]++] & 0xFF);
+        }
+        return length;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static final class Anchor {
+
+        private final String alias;
+        private final String subject;
+        private final String keyId;
+        private final ByteBuffer der;
+        private volatile X509Certificate certificate;
+
+        private Anchor(String alias, String subject, String keyId, X509Certificate certificate) {
+            this.alias = alias;
+            this.subject = subject;
+            this.keyId = keyId;
+            this.der = null;
+            this.certificate = certificate;
+        }
+
+        private Anchor(String alias, String subject, String keyId, ByteBuffer der) {
+            this.alias = alias;
+            this.subject = subject;
+            this.keyId = keyId;
+            this.der = der;
+        }
+
+        public String getAlias() {
+            return alias;
+        }
+
+        public String getKeyId() {
+            return keyId;
+        }
+
+        // 매핑된 DER 바이트는 실제로 조회될 때 한 번만 파싱
+        public X509Certificate getCertificate() throws CertificateException {
+            X509Certificate cert = certificate;
+            if (cert == null) {
+                byte[] bytes = new byte[der.remaining()];
+                der.duplicate().get(bytes);
+                cert = (X509Certificate) CertificateFactory.getInstance("X.509")
+                        .generateCertificate(new ByteArrayInputStream(bytes));
+                certificate = cert;
+            }
+            return cert;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 서명 검증 결과 캐시
+// (자식 인증서 SHA-256 지문, 발급자 공개키 SHA-256 지문) 쌍이 한 번 검증되면
+// 같은 프로세스 안에서는 다시 RSA/ECDSA 연산을 하지 않는다.
+// 중간→루트처럼 반복되는 링크만 의미가 있으므로 CA 인증서(basicConstraints)만 캐시하고
+// 매번 다른 리프 인증서의 서명은 그대로 검증한다. 실패한 검증은 캐시하지 않는다.
+public class VerifiedLinkCache {
+
+    private final Map<String, Boolean> verified = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder uncached = new LongAdder();
+
+    public void verify(X509Certificate child, PublicKey issuerKey) throws GeneralSecurityException {
+        if (child.getBasicConstraints() < 0) {
+            uncached.increment();
+            child.verify(issuerKey);
+            return;
+        }
+
+        String key = fingerprint(child.getEncoded()) + ":" + fingerprint(issuerKey.getEncoded());
+        if (verified.containsKey(key)) {
+            hits.increment();
+            return;
+        }
+        misses.increment();
+        child.verify(issuerKey);
+        verified.put(key, Boolean.TRUE);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getUncached() {
+        return uncached.sum();
+    }
+
+    public int size() {
+        return verified.size();
+    }
+
+    private static String fingerprint(byte[] encoded) throws GeneralSecurityException {
+        // MessageDigest는 스레드 안전하지 않으므로 호출마다 생성
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(encoded));
+    }
+}